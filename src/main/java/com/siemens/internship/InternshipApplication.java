@@ -3,13 +3,16 @@ package com.siemens.internship;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Internship application.
  * @see EnableAsync to allow @Async usage
+ * @see EnableScheduling to run the background email verification
  */
 @SpringBootApplication
 @EnableAsync
+@EnableScheduling
 public class InternshipApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,104 @@
+package com.siemens.internship.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor configuration for asynchronous item processing.
+ *
+ * Processing work runs on its own pool so it never competes with
+ * request handling threads and can be sized independently.
+ *
+ * With {@code spring.threads.virtual.enabled=true} on Java 21+, Tomcat request
+ * threads and the processing executor both switch to virtual threads.
+ */
+@Configuration
+@EnableConfigurationProperties(ProcessingProperties.class)
+public class AsyncConfig {
+
+    /** Bean name referenced by {@code @Async} on processing methods. */
+    public static final String ITEM_PROCESSING_EXECUTOR = "itemProcessingExecutor";
+
+    /** Bean name of the executor driving background processing jobs. */
+    public static final String PROCESSING_JOB_EXECUTOR = "processingJobExecutor";
+
+    /**
+     * Bounded pool used to fan out item processing.
+     *
+     * The queue is capped, so a large run cannot pile up millions of tasks on the heap;
+     * when it is full the submitter blocks or the task is shed, depending on
+     * {@code items.processing.overflow-policy}.
+     *
+     * @param props processing tunables
+     * @return the executor backing {@code @Async(ITEM_PROCESSING_EXECUTOR)}
+     */
+    @Bean(name = ITEM_PROCESSING_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor itemProcessingExecutor(ProcessingProperties props) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getPoolSize());
+        executor.setMaxPoolSize(props.effectiveMaxPoolSize());
+        executor.setQueueCapacity(props.getQueueCapacity());
+        executor.setRejectedExecutionHandler(
+                new BackpressureRejectionHandler(props.getOverflowPolicy(), props.getBlockTimeout()));
+        executor.setThreadNamePrefix("item-processing-");
+        // Let in-flight transactions finish on shutdown instead of interrupting them
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Active threads, queue depth, completed and rejected task meters for the processing pool.
+     *
+     * @param executor the platform processing executor
+     * @return binder registered with the Micrometer registry
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ProcessingExecutorMetrics itemProcessingExecutorMetrics(
+            @Qualifier(ITEM_PROCESSING_EXECUTOR) ThreadPoolTaskExecutor executor) {
+        return new ProcessingExecutorMetrics(executor,
+                (BackpressureRejectionHandler) executor.getThreadPoolExecutor().getRejectedExecutionHandler());
+    }
+
+    /**
+     * Virtual-thread variant: one virtual thread per task, so workers blocked on JDBC
+     * no longer pin platform threads. Concurrency is still capped, because every
+     * task needs a pooled database connection.
+     *
+     * @param props processing tunables
+     * @return the executor backing {@code @Async(ITEM_PROCESSING_EXECUTOR)}
+     */
+    @Bean(name = ITEM_PROCESSING_EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor itemProcessingVirtualThreadExecutor(ProcessingProperties props) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("item-processing-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(props.getVirtualThreadConcurrencyLimit());
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+
+    /**
+     * Small pool that runs the id scan of each background job, so job submission
+     * returns immediately and scans never occupy processing workers.
+     *
+     * @param props processing tunables
+     * @return the executor used by the job service
+     */
+    @Bean(name = PROCESSING_JOB_EXECUTOR)
+    public ThreadPoolTaskExecutor processingJobExecutor(ProcessingProperties props) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getMaxConcurrentJobs());
+        executor.setMaxPoolSize(props.getMaxConcurrentJobs());
+        executor.setThreadNamePrefix("processing-job-");
+        return executor;
+    }
+}
@@ -0,0 +1,58 @@
+package com.siemens.internship.config;
+
+import com.siemens.internship.config.ProcessingProperties.OverflowPolicy;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rejection handler giving a bounded executor backpressure instead of unbounded growth.
+ *
+ * Under {@link OverflowPolicy#BLOCK} the submitting thread waits for queue space,
+ * throttling the producer to the speed of the workers; under {@link OverflowPolicy#SHED}
+ * (or when the wait times out) the task is rejected. Rejections are counted for metrics.
+ */
+public class BackpressureRejectionHandler implements RejectedExecutionHandler {
+
+    private final OverflowPolicy policy;
+    private final Duration blockTimeout;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param policy       behaviour when the queue is full
+     * @param blockTimeout maximum wait for queue space under {@link OverflowPolicy#BLOCK}
+     */
+    public BackpressureRejectionHandler(OverflowPolicy policy, Duration blockTimeout) {
+        this.policy = policy;
+        this.blockTimeout = blockTimeout;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        if (policy == OverflowPolicy.SHED || executor.isShutdown()) {
+            throw reject("Processing queue is full");
+        }
+        try {
+            if (!executor.getQueue().offer(task, blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw reject("Processing queue stayed full for " + blockTimeout);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw reject("Interrupted while waiting for processing queue space");
+        }
+    }
+
+    /** @return number of tasks rejected so far */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private RejectedExecutionException reject(String message) {
+        rejected.increment();
+        return new RejectedExecutionException(message);
+    }
+}
@@ -0,0 +1,123 @@
+package com.siemens.internship.config;
+
+import com.siemens.internship.service.AsyncMxLookup;
+import com.siemens.internship.service.MxCircuitBreaker;
+import com.siemens.internship.service.MxRecordCache;
+import com.siemens.internship.service.dns.InMemoryZoneMxResolver;
+import com.siemens.internship.service.dns.JndiMxResolver;
+import com.siemens.internship.service.dns.MxResolver;
+import com.siemens.internship.service.dns.PipelinedUdpMxResolver;
+import com.siemens.internship.service.dns.UdpMxResolver;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared infrastructure for {@code @ValidEmail} checks.
+ */
+@Configuration
+@EnableConfigurationProperties(EmailValidationProperties.class)
+public class EmailValidationConfig {
+
+    /** Name of the executor running MX cache refresh-ahead lookups. */
+    public static final String MX_REFRESH_EXECUTOR = "mxRefreshExecutor";
+
+    /**
+     * One MX cache for every validator instance Hibernate Validator creates.
+     *
+     * @param props           email validation tunables
+     * @param refreshExecutor runs refresh-ahead lookups of hot domains
+     * @return the application-wide MX cache, also bound as Micrometer meters
+     */
+    @Bean
+    public MxRecordCache mxRecordCache(EmailValidationProperties props,
+                                       @Qualifier(MX_REFRESH_EXECUTOR) ThreadPoolTaskExecutor refreshExecutor) {
+        return new MxRecordCache(props.getCache(), System::nanoTime, refreshExecutor);
+    }
+
+    /**
+     * Small pool for background refreshes; when its queue is full a refresh is skipped
+     * and retried by the next read of the domain.
+     *
+     * @return the refresh-ahead executor
+     */
+    @Bean(name = MX_REFRESH_EXECUTOR)
+    public ThreadPoolTaskExecutor mxRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(256);
+        executor.setThreadNamePrefix("mx-refresh-");
+        return executor;
+    }
+
+    /**
+     * Circuit breaker shared by every live lookup.
+     *
+     * @param props email validation tunables
+     * @return the breaker, also bound as Micrometer meters
+     */
+    @Bean
+    public MxCircuitBreaker mxCircuitBreaker(EmailValidationProperties props) {
+        return new MxCircuitBreaker(props.getBreaker(), System::nanoTime);
+    }
+
+    /**
+     * Pool running live MX lookups, so a degraded resolver costs a request thread
+     * at most {@code email.validation.lookup.timeout}, and nothing once the breaker opens.
+     *
+     * @param props          email validation tunables
+     * @param resourceLoader loads the optional zone file
+     * @param breaker        circuit breaker, used unless {@code email.validation.breaker.enabled=false}
+     * @return the shared asynchronous lookup, shut down with the context
+     * @throws IOException if the configured zone file cannot be read
+     */
+    @Bean(destroyMethod = "shutdown")
+    public AsyncMxLookup asyncMxLookup(EmailValidationProperties props, ResourceLoader resourceLoader,
+                                       MxCircuitBreaker breaker) throws IOException {
+        EmailValidationProperties.Lookup lookup = props.getLookup();
+        int batchConcurrent = (int) (lookup.getMaxConcurrent() * lookup.getBatchShare());
+        return new AsyncMxLookup(resolver(props, resourceLoader), lookup.getTimeout(), lookup.getMaxConcurrent(),
+                batchConcurrent, props.getBreaker().isEnabled() ? breaker : null);
+    }
+
+    /**
+     * Build the resolver selected by {@code email.validation.lookup.resolver}.
+     */
+    private static MxResolver resolver(EmailValidationProperties props, ResourceLoader resourceLoader)
+            throws IOException {
+        EmailValidationProperties.Lookup lookup = props.getLookup();
+        return switch (lookup.getResolver()) {
+            case JNDI -> new JndiMxResolver(lookup.getDnsTimeout(), lookup.getDnsRetries(), lookup.getDnsServers());
+            case UDP -> new UdpMxResolver(lookup.getDnsServers(), lookup.getDnsTimeout(), lookup.getDnsRetries());
+            case PIPELINED_UDP ->
+                    new PipelinedUdpMxResolver(lookup.getDnsServers(), lookup.getDnsTimeout(), lookup.getDnsRetries());
+            case IN_MEMORY -> inMemoryResolver(props.getZone(), resourceLoader);
+        };
+    }
+
+    private static MxResolver inMemoryResolver(EmailValidationProperties.Zone zone, ResourceLoader resourceLoader)
+            throws IOException {
+        List<String> domains = new ArrayList<>(zone.getMxDomains());
+        if (zone.getFile() != null) {
+            Resource file = resourceLoader.getResource(zone.getFile());
+            try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+                InMemoryZoneMxResolver parsed = InMemoryZoneMxResolver.fromZoneFile(reader, Duration.ZERO);
+                domains.addAll(parsed.getMxDomains());
+            }
+        }
+        return new InMemoryZoneMxResolver(domains, zone.getLatency());
+    }
+}
@@ -0,0 +1,200 @@
+package com.siemens.internship.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tunables for {@code @ValidEmail} checks, bound from {@code email.validation.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "email.validation")
+public class EmailValidationProperties {
+
+    /** Whether {@code @ValidEmail} checks MX records inline or leaves them to the background pipeline. */
+    private Mode mode = Mode.SYNC;
+
+    /** MX lookup cache settings. */
+    private Cache cache = new Cache();
+
+    /** Live MX lookup settings. */
+    private Lookup lookup = new Lookup();
+
+    /** Circuit breaker around live MX lookups. */
+    private Breaker breaker = new Breaker();
+
+    /** Background verification of pending item emails. */
+    private Deferred deferred = new Deferred();
+
+    /** In-memory zone used by the {@link ResolverType#IN_MEMORY} resolver. */
+    private Zone zone = new Zone();
+
+    /**
+     * Per-domain cache of MX lookup results.
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /** How long a domain known to have MX records stays cached. */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /** How long a domain without MX records stays cached; kept short so newly configured domains recover quickly. */
+        private Duration negativeTtl = Duration.ofMinutes(1);
+
+        /** Maximum number of cached domains; the least recently used one is evicted beyond this. */
+        private int maxSize = 10_000;
+
+        /** How long before expiry a hot domain is refreshed in the background; zero disables refresh-ahead. */
+        private Duration refreshAhead = Duration.ofSeconds(30);
+
+        /** Reads an entry needs during its lifetime to count as hot. */
+        private int refreshMinHits = 10;
+    }
+
+    /**
+     * Deadline and concurrency bounds for live MX lookups.
+     */
+    @Getter
+    @Setter
+    public static class Lookup {
+
+        /** Which {@code MxResolver} answers live lookups. */
+        private ResolverType resolver = ResolverType.JNDI;
+
+        /** DNS servers as {@code host[:port]}; empty uses the system configuration. */
+        private List<String> dnsServers = new ArrayList<>();
+
+        /** Longest a request thread waits for an MX answer before the unresolved policy applies. */
+        private Duration timeout = Duration.ofSeconds(2);
+
+        /** Maximum DNS lookups in flight at once; further lookups are treated as unresolved immediately. */
+        private int maxConcurrent = 32;
+
+        /** Share of {@link #maxConcurrent} that batch lookups may hold; the rest stays free for request validation. */
+        private double batchShare = 0.5;
+
+        /** Longest a batch waits for lookup slots and answers; domains still open then are unresolved. */
+        private Duration batchTimeout = Duration.ofSeconds(10);
+
+        /** Initial JNDI DNS query timeout; doubled on each retry. */
+        private Duration dnsTimeout = Duration.ofMillis(500);
+
+        /** Number of JNDI DNS query retries per server. */
+        private int dnsRetries = 1;
+
+        /** What a validation does when no MX answer arrived in time. */
+        private UnresolvedPolicy unresolvedPolicy = UnresolvedPolicy.REJECT;
+    }
+
+    /**
+     * Circuit breaker that stops querying DNS while most lookups go unanswered.
+     */
+    @Getter
+    @Setter
+    public static class Breaker {
+
+        /** Whether live lookups go through the circuit breaker. */
+        private boolean enabled = true;
+
+        /** Number of most recent lookups the failure rate is computed over. */
+        private int windowSize = 20;
+
+        /** Lookups needed in the window before the breaker may open. */
+        private int minimumCalls = 10;
+
+        /** Percentage of unanswered lookups in the window at which the breaker opens. */
+        private int failureRateThreshold = 50;
+
+        /** How long the breaker stays open before letting probe lookups through. */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /** Probe lookups that must all be answered to close the breaker again. */
+        private int halfOpenProbes = 3;
+
+        /** What a validation does while the breaker is open. */
+        private OpenPolicy openPolicy = OpenPolicy.FAIL_FAST;
+    }
+
+    /**
+     * Background pipeline verifying the MX records of items stored with a pending email check.
+     */
+    @Getter
+    @Setter
+    public static class Deferred {
+
+        /** Pause between two runs over the pending items. */
+        private Duration pollInterval = Duration.ofSeconds(5);
+
+        /** Pending items read per page; each page's distinct domains are resolved together. */
+        private int batchSize = 500;
+    }
+
+    /**
+     * Offline zone for the in-memory resolver.
+     */
+    @Getter
+    @Setter
+    public static class Zone {
+
+        /** Optional zone file location (e.g. {@code classpath:mx.zone}); its MX owners are added to {@link #mxDomains}. */
+        private String file;
+
+        /** Domains that publish MX records. */
+        private List<String> mxDomains = new ArrayList<>();
+
+        /** Delay added to every lookup, to simulate a resolver's round trip. */
+        private Duration latency = Duration.ZERO;
+    }
+
+    /**
+     * When {@code @ValidEmail} performs the MX check.
+     */
+    public enum Mode {
+        /** Format and MX check while validating the request. */
+        SYNC,
+        /** Format check only; items are stored as pending and verified in the background. */
+        DEFERRED
+    }
+
+    /**
+     * Implementation behind live MX lookups.
+     */
+    public enum ResolverType {
+        /** The JDK's JNDI DNS provider. */
+        JNDI,
+        /** The built-in DNS-over-UDP client, one socket per lookup. */
+        UDP,
+        /** The built-in DNS-over-UDP client, all lookups multiplexed over one shared channel. */
+        PIPELINED_UDP,
+        /** An in-memory zone; no network access. */
+        IN_MEMORY
+    }
+
+    /**
+     * Outcome of {@code @ValidEmail} when the MX lookup timed out, failed, or was shed.
+     */
+    public enum UnresolvedPolicy {
+        /** Treat the address as undeliverable. */
+        REJECT,
+        /** Treat the address as deliverable. */
+        ACCEPT,
+        /** Accept, and mark the response with {@code X-Email-Verification: unverified}. */
+        ACCEPT_AND_FLAG
+    }
+
+    /**
+     * Outcome of {@code @ValidEmail} when the MX lookup was refused by the open circuit breaker.
+     */
+    public enum OpenPolicy {
+        /** Reject the address at once, without waiting for DNS. */
+        FAIL_FAST,
+        /** Skip the MX check, accept, and mark the response with {@code X-Email-Verification: unverified}. */
+        SKIP_AND_FLAG
+    }
+}
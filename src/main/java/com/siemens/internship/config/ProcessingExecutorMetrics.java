@@ -0,0 +1,55 @@
+package com.siemens.internship.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Publishes the state of the item processing executor as Micrometer meters
+ * ({@code items.processing.executor.*}), visible under {@code /actuator/metrics}.
+ */
+public class ProcessingExecutorMetrics implements MeterBinder {
+
+    private static final String PREFIX = "items.processing.executor.";
+
+    private final ThreadPoolTaskExecutor executor;
+    private final BackpressureRejectionHandler rejections;
+
+    /**
+     * @param executor   the processing executor to observe
+     * @param rejections the handler counting rejected tasks
+     */
+    public ProcessingExecutorMetrics(ThreadPoolTaskExecutor executor,
+                                     BackpressureRejectionHandler rejections) {
+        this.executor = executor;
+        this.rejections = rejections;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+
+        Gauge.builder(PREFIX + "active", pool, ThreadPoolExecutor::getActiveCount)
+                .description("Workers currently running a task")
+                .register(registry);
+        Gauge.builder(PREFIX + "pool.size", pool, ThreadPoolExecutor::getPoolSize)
+                .description("Current number of worker threads")
+                .register(registry);
+        Gauge.builder(PREFIX + "queued", pool, p -> p.getQueue().size())
+                .description("Tasks waiting for a worker")
+                .register(registry);
+        Gauge.builder(PREFIX + "queue.remaining", pool, p -> p.getQueue().remainingCapacity())
+                .description("Free slots in the bounded queue")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "completed", pool, ThreadPoolExecutor::getCompletedTaskCount)
+                .description("Tasks that finished executing")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "rejected", rejections, BackpressureRejectionHandler::getRejectedCount)
+                .description("Tasks rejected because the queue was full")
+                .register(registry);
+    }
+}
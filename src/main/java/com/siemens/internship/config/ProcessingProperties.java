@@ -0,0 +1,69 @@
+package com.siemens.internship.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tunables for the item processing engine, bound from {@code items.processing.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "items.processing")
+public class ProcessingProperties {
+
+    /** Number of core worker threads; defaults to the number of available cores. */
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+
+    /** Upper bound on worker threads, reached only while the queue is full; defaults to {@link #poolSize}. */
+    private Integer maxPoolSize;
+
+    /** Maximum number of tasks waiting for a worker. */
+    private int queueCapacity = 1_000;
+
+    /** What a submitter experiences when the queue is full. */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /** How long a submitter waits for queue space under {@link OverflowPolicy#BLOCK}. */
+    private Duration blockTimeout = Duration.ofSeconds(30);
+
+    /** Maximum concurrent tasks when running on virtual threads. */
+    private int virtualThreadConcurrencyLimit = 64;
+
+    /** Statuses an item must have to be picked up by a processing run. */
+    private List<String> eligibleStatuses = new ArrayList<>(List.of("NEW"));
+
+    /** Status written to items once they have been processed. */
+    private String targetStatus = "PROCESSED";
+
+    /** Number of item IDs updated per transaction in chunked mode. */
+    private int chunkSize = 500;
+
+    /** Number of background jobs whose id scans may run at the same time. */
+    private int maxConcurrentJobs = 2;
+
+    /** How long finished jobs remain queryable. */
+    private Duration jobRetention = Duration.ofHours(1);
+
+    /** Whether jobs left RUNNING by a previous instance are resumed at startup. */
+    private boolean resumeOnStartup = true;
+
+    /** @return the effective maximum pool size, never below the core size */
+    public int effectiveMaxPoolSize() {
+        return maxPoolSize != null ? Math.max(maxPoolSize, poolSize) : poolSize;
+    }
+
+    /**
+     * Behaviour of the processing executor when its bounded queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Block the submitting thread until space frees up (or the timeout elapses). */
+        BLOCK,
+        /** Reject the task immediately; the item or chunk is reported as failed. */
+        SHED
+    }
+}
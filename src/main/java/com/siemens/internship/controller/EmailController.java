@@ -0,0 +1,53 @@
+package com.siemens.internship.controller;
+
+import com.siemens.internship.model.EmailValidationReport;
+import com.siemens.internship.service.EmailValidationService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * REST controller for validating email addresses outside of item creation.
+ *
+ * Delegates to {@link EmailValidationService}, which applies the same checks as {@code @ValidEmail}.
+ */
+@RestController
+@RequestMapping("/api/emails")
+public class EmailController {
+
+    /** Largest batch accepted by a single request. */
+    static final int MAX_BATCH_SIZE = 10_000;
+
+    private final EmailValidationService service;
+
+    /**
+     * Constructor injection of the service.
+     *
+     * @param service the service validating batches of addresses
+     */
+    public EmailController(EmailValidationService service) {
+        this.service = service;
+    }
+
+    /**
+     * Validate a batch of addresses, resolving each distinct domain once.
+     *
+     * @param emails JSON array of addresses
+     * @return ResponseEntity containing one verdict per address, in order, and HTTP status 200 OK
+     * @throws ResponseStatusException with status 400 if the batch is larger than {@value #MAX_BATCH_SIZE}
+     */
+    @PostMapping("/validate")
+    public ResponseEntity<EmailValidationReport> validate(@RequestBody List<String> emails) {
+        if (emails.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BATCH_SIZE + " addresses per request");
+        }
+        return ResponseEntity.ok(service.validate(emails));
+    }
+}
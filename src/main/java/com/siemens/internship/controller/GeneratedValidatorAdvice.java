@@ -0,0 +1,51 @@
+package com.siemens.internship.controller;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.model.ItemRequest;
+import com.siemens.internship.model.ItemRequestValidator;
+import com.siemens.internship.service.AsyncMxLookup;
+import com.siemens.internship.service.MxRecordCache;
+import com.siemens.internship.service.ValidEmailValidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
+
+/**
+ * Validates {@code @Validated ItemRequest} bodies with the compile-time generated
+ * {@link ItemRequestValidator} instead of reflective Bean Validation.
+ *
+ * The bodies are marked {@code @Validated} rather than {@code @Valid}: the controller's
+ * method validation cascades into {@code @Valid} arguments, which would validate them a
+ * second time with Hibernate Validator.
+ *
+ * Violations carry the same fields and messages, so error responses are unchanged.
+ * Disable with {@code items.validation.generated-validator=false}.
+ */
+@ControllerAdvice(assignableTypes = ItemController.class)
+@ConditionalOnProperty(name = "items.validation.generated-validator", havingValue = "true", matchIfMissing = true)
+public class GeneratedValidatorAdvice {
+
+    private final ItemRequestValidator itemRequestValidator;
+
+    /**
+     * @param cache  MX lookup cache shared with {@code @ValidEmail}
+     * @param lookup deadline-bounded asynchronous lookup
+     * @param props  email validation tunables
+     */
+    public GeneratedValidatorAdvice(MxRecordCache cache, AsyncMxLookup lookup, EmailValidationProperties props) {
+        this.itemRequestValidator = new ItemRequestValidator(new ValidEmailValidator(cache, lookup, props));
+    }
+
+    /**
+     * Replace the default validator for request bodies of type {@link ItemRequest}.
+     *
+     * @param binder the binder created for a handler argument
+     */
+    @InitBinder
+    public void useGeneratedValidator(WebDataBinder binder) {
+        if (binder.getTarget() instanceof ItemRequest) {
+            binder.setValidator(itemRequestValidator);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.siemens.internship.model.ErrorResponse;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
@@ -24,7 +25,7 @@ import java.util.stream.Collectors;
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     /**
-     * Handle validation errors on {@code @Valid} request bodies.
+     * Handle validation errors on {@code @Valid} or {@code @Validated} request bodies.
      */
     @Override
     public ResponseEntity<Object> handleMethodArgumentNotValid(
@@ -85,6 +86,20 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return build(HttpStatus.CONFLICT, "Data Conflict", List.of(cause), request);
     }
 
+    /**
+     * Handle writes of a stale copy, i.e. the row's version changed since it was read.
+     * Reported like a failed {@code If-Match}: the client must fetch the current version first.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLock(
+            OptimisticLockingFailureException ex,
+            WebRequest request) {
+
+        log.debug("Rejected write of a stale version", ex);
+        return build(HttpStatus.PRECONDITION_FAILED, "Precondition Failed",
+                List.of("Resource was modified concurrently; fetch it again and retry"), request);
+    }
+
     /**
      * Handle explicit {@link ResponseStatusException} thrown in controllers.
      */
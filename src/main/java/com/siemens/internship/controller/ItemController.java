@@ -1,17 +1,46 @@
 package com.siemens.internship.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.siemens.internship.model.ChunkedProcessingReport;
+import com.siemens.internship.model.EmailVerificationStatus;
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemField;
+import com.siemens.internship.model.ItemFilter;
+import com.siemens.internship.model.ItemPage;
 import com.siemens.internship.model.ItemRequest;
+import com.siemens.internship.model.ProcessingJobStatus;
+import com.siemens.internship.model.ProcessingSummary;
+import com.siemens.internship.service.EmailVerification;
+import com.siemens.internship.service.ItemProcessingListener;
 import com.siemens.internship.service.ItemService;
-import jakarta.validation.Valid;
+import com.siemens.internship.service.ProcessingJobService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -21,18 +50,46 @@ import java.util.concurrent.CompletableFuture;
  */
 @RestController
 @RequestMapping("/api/items")
-@Validated  // enables validation on @PathVariable parameters
+@Validated  // enables validation on @PathVariable parameters; bodies are validated by the binder
 public class ItemController {
 
+    /** Media type for newline-delimited JSON streams. */
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /** Streaming responses last as long as the run; the servlet treats 0 as no timeout. */
+    private static final long NO_TIMEOUT = 0L;
+
+    /** Upper bound for {@code limit} on paginated reads. */
+    static final int MAX_PAGE_SIZE = 1000;
+
+    /** Upper bound for {@code chunkSize}: each chunk is one UPDATE with that many IDs. */
+    static final int MAX_CHUNK_SIZE = 5000;
+
+    /** Reason of a failed {@code If-Match}. */
+    static final String ITEM_MODIFIED = "Item was modified; fetch it again and retry";
+
     private final ItemService service;
+    private final ProcessingJobService jobs;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter itemWriter;
+    private final ObjectWriter rowWriter;
 
     /**
-     * Constructor injection of the service.
+     * Constructor injection of the services.
      *
-     * @param service the ItemService to delegate business operations to
+     * @param service      the ItemService to delegate business operations to
+     * @param jobs         the service managing background processing jobs
+     * @param objectMapper the application's JSON mapper, used for streamed item lists
      */
-    public ItemController(ItemService service) {
+    public ItemController(ItemService service, ProcessingJobService jobs, ObjectMapper objectMapper) {
         this.service = service;
+        this.jobs = jobs;
+        this.objectMapper = objectMapper;
+        // Streamed items are flushed by the generator's buffer, not one by one
+        this.itemWriter = objectMapper.writerFor(Item.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.rowWriter = objectMapper.writerFor(Map.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     /**
@@ -47,88 +104,320 @@ public class ItemController {
         item.setDescription(req.getDescription());
         item.setStatus(req.getStatus());
         item.setEmail(req.getEmail());
+        item.setEmailVerification(emailVerificationStatus());
         return item;
     }
 
     /**
-     * Retrieve all items.
+     * Verification state of an email that passed {@code @ValidEmail} in this request: pending when
+     * the MX check was deferred or skipped (see {@link EmailVerification}), verified otherwise.
+     */
+    private static EmailVerificationStatus emailVerificationStatus() {
+        return EmailVerification.isUnverified() ? EmailVerificationStatus.PENDING : EmailVerificationStatus.VERIFIED;
+    }
+
+    /**
+     * Resolve a {@code fields} request parameter to the fields to select.
+     *
+     * @throws ResponseStatusException with status 400 if a field is not an item property
+     */
+    private static Set<ItemField> parseFields(List<String> fields) {
+        try {
+            return ItemField.parse(fields);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    /**
+     * Retrieve all items, optionally only those with a status or email domain, and optionally
+     * only the requested fields of each (the id and version are always included).
+     * Filters seek on the status and email domain indexes instead of scanning the table.
+     * The response carries the collection ETag; a matching {@code If-None-Match} is answered
+     * with 304 before any item is read.
      *
-     * @return ResponseEntity containing list of all items and HTTP status 200 OK
+     * @param status      optional exact status, e.g. {@code NEW}
+     * @param emailDomain optional email domain, e.g. {@code example.com}; case-insensitive
+     * @param fields      optional sparse fieldset, e.g. {@code fields=id,status}; only those columns are read
+     * @param ifNoneMatch optional entity tags the client already has
+     * @return ResponseEntity containing list of matching items and HTTP status 200 OK, or 304 Not Modified
+     * @throws ResponseStatusException with status 400 if a field is unknown
      */
     @GetMapping
-    public ResponseEntity<List<Item>> getAll() {
-        List<Item> items = service.findAll();
-        return ResponseEntity.ok(items);
+    public ResponseEntity<List<?>> getAll(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String emailDomain,
+            @RequestParam(required = false) List<String> fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Read the counter before the items: the tag may lag the body, never lead it
+        String etag = ItemETags.ofCollection(service.changeCount());
+        if (ItemETags.noneMatchFails(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        ItemFilter filter = ItemFilter.of(status, emailDomain);
+        if (fields != null) {
+            return ResponseEntity.ok().eTag(etag).body(service.findAll(filter, parseFields(fields)));
+        }
+        List<Item> items = service.findAll(filter);
+        return ResponseEntity.ok().eTag(etag).body(items);
+    }
+
+    /**
+     * Stream all items, optionally only those with a status or email domain, as one NDJSON line
+     * each, written while the rows are read. Nothing is collected first, so memory use does not
+     * grow with the table.
+     *
+     * @param status      optional status filter, as for {@link #getAll}
+     * @param emailDomain optional email domain filter, as for {@link #getAll}
+     * @param fields      optional sparse fieldset, as for {@link #getAll}
+     * @return ResponseEntity wrapping the streaming body, with content type {@code application/x-ndjson}
+     * @throws ResponseStatusException with status 400 if a field is unknown
+     */
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllAsNdjson(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String emailDomain,
+            @RequestParam(required = false) List<String> fields) {
+        ItemFilter filter = ItemFilter.of(status, emailDomain);
+        Set<ItemField> selected = fields == null ? null : parseFields(fields);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(out -> writeAll(out, false, filter, selected));
+    }
+
+    /**
+     * Stream all items, optionally filtered and trimmed to a sparse fieldset as for {@link #getAll},
+     * as a JSON array written element by element while the rows are read.
+     * Same body as {@link #getAll}, but memory use does not grow with the table.
+     *
+     * @param status      optional status filter, as for {@link #getAll}
+     * @param emailDomain optional email domain filter, as for {@link #getAll}
+     * @param fields      optional sparse fieldset, as for {@link #getAll}
+     * @return ResponseEntity wrapping the streaming body, with content type {@code application/json}
+     * @throws ResponseStatusException with status 400 if a field is unknown
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllAsJsonArray(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String emailDomain,
+            @RequestParam(required = false) List<String> fields) {
+        ItemFilter filter = ItemFilter.of(status, emailDomain);
+        Set<ItemField> selected = fields == null ? null : parseFields(fields);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> writeAll(out, true, filter, selected));
+    }
+
+    /**
+     * Serialise every item matching {@code filter} straight to the response as
+     * {@link ItemService#streamAll} reads it: whole items, or only {@code fields} if set.
+     * The generator buffers a bounded amount and flushes to {@code out} as it fills.
+     */
+    private void writeAll(OutputStream out, boolean asArray, ItemFilter filter, Set<ItemField> fields)
+            throws IOException {
+        try (JsonGenerator gen = objectMapper.createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);   // the container owns the response stream
+            gen.setRootValueSeparator(null);                       // NDJSON lines end with '\n' only
+            if (asArray) {
+                gen.writeStartArray();
+            }
+            if (fields == null) {
+                service.streamAll(filter, item -> writeValue(gen, itemWriter, item, asArray));
+            } else {
+                service.streamAll(filter, fields, row -> writeValue(gen, rowWriter, row, asArray));
+            }
+            if (asArray) {
+                gen.writeEndArray();
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Write one streamed element, followed by a newline unless it is an array element.
+     */
+    private static void writeValue(JsonGenerator gen, ObjectWriter writer, Object value, boolean asArray) {
+        try {
+            writer.writeValue(gen, value);
+            if (!asArray) {
+                gen.writeRaw('\n');
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);   // client gone: abort the scan
+        }
+    }
+
+    /**
+     * Retrieve one page of items in id order, seeking past the previous page instead of
+     * skipping rows, so every page costs the same. The next page, if any, is linked from the
+     * {@code Link} header ({@code rel="next"}) with an opaque {@code after} cursor.
+     *
+     * @param limit       maximum number of items in the page
+     * @param after       cursor from the previous page's next link; omitted for the first page
+     * @param status      optional status filter, as for {@link #getAll}
+     * @param emailDomain optional email domain filter, as for {@link #getAll}
+     * @param fields      optional sparse fieldset, as for {@link #getAll}
+     * @param ifNoneMatch optional entity tags the client already has, as for {@link #getAll}
+     * @return ResponseEntity containing the page of items and HTTP status 200 OK, or 304 Not Modified
+     * @throws ResponseStatusException with status 400 if the cursor or a field is invalid
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<List<?>> getPage(
+            @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String emailDomain,
+            @RequestParam(required = false) List<String> fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ItemFilter filter = ItemFilter.of(status, emailDomain);
+        long afterId = ItemCursor.decode(after);
+        String etag = ItemETags.ofCollection(service.changeCount());
+        if (ItemETags.noneMatchFails(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        ItemPage<?> page = fields != null
+                ? service.findPage(filter, afterId, limit, parseFields(fields))
+                : service.findPage(filter, afterId, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (page.nextAfterId() != null) {
+            // limit is set explicitly: it may have been bound from a form body rather than the query
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("limit", limit)
+                    .replaceQueryParam("after", ItemCursor.encode(page.nextAfterId()))
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.items());
     }
 
     /**
      * Create a new item from the provided DTO.
      *
      * @param req the ItemRequest DTO (validated) from request body
-     * @return ResponseEntity containing the created Item and HTTP status 201 Created
+     * @return ResponseEntity containing the created Item, its ETag and HTTP status 201 Created
      */
     @PostMapping
-    public ResponseEntity<Item> create(@Valid @RequestBody ItemRequest req) {
+    public ResponseEntity<Item> create(@Validated @RequestBody ItemRequest req) {
         Item saved = service.save(toEntity(req));
-        return ResponseEntity.status(HttpStatus.CREATED).body(saved);
+        return withItemETag(withEmailVerification(ResponseEntity.status(HttpStatus.CREATED)), saved.getVersion())
+                .body(saved);
+    }
+
+    /**
+     * Report an email accepted without a completed MX check (see {@link EmailVerification}).
+     */
+    private static ResponseEntity.BodyBuilder withEmailVerification(ResponseEntity.BodyBuilder response) {
+        if (EmailVerification.isUnverified()) {
+            response.header(EmailVerification.HEADER, EmailVerification.UNVERIFIED);
+        }
+        return response;
     }
 
     /**
-     * Fetch an item by its identifier.
+     * Fetch an item by its identifier, or only the requested fields of it.
+     * The response carries the item's ETag; a matching {@code If-None-Match} is answered
+     * with 304 after reading only the version, without loading the item.
      *
-     * @param id the positive identifier of the item
-     * @return ResponseEntity containing the found Item and HTTP status 200 OK
-     * @throws ResponseStatusException with status 404 if item not found
+     * @param id          the positive identifier of the item
+     * @param fields      optional sparse fieldset, as for {@link #getAll}
+     * @param ifNoneMatch optional entity tags the client already has
+     * @return ResponseEntity containing the found Item and HTTP status 200 OK, or 304 Not Modified
+     * @throws ResponseStatusException with status 404 if item not found, or 400 if a field is unknown
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Item> getById(
-            @PathVariable @Positive Long id) {
+    public ResponseEntity<?> getById(
+            @PathVariable @Positive Long id,
+            @RequestParam(required = false) List<String> fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> etag = service.findVersionById(id).map(ItemETags::ofItem);
+            if (etag.isPresent() && ItemETags.noneMatchFails(ifNoneMatch, etag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+            }
+        }
+        if (fields != null) {
+            return service.findById(id, parseFields(fields))
+                    .map(item -> withItemETag(ResponseEntity.ok(), (Long) item.get(ItemField.VERSION.getProperty()))
+                            .body(item))
+                    .orElseThrow(() -> new ResponseStatusException(
+                            HttpStatus.NOT_FOUND, "Item not found"));
+        }
         return service.findById(id)
-                .map(ResponseEntity::ok)
+                .map(item -> withItemETag(ResponseEntity.ok(), item.getVersion()).body(item))
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "Item not found"));
     }
 
+    /**
+     * Tag a single-item response with the item's version; rows stored before versioning have none.
+     */
+    private static ResponseEntity.BodyBuilder withItemETag(ResponseEntity.BodyBuilder response, Long version) {
+        if (version != null) {
+            response.eTag(ItemETags.ofItem(version));
+        }
+        return response;
+    }
+
     /**
      * Update an existing item by its identifier.
+     * With {@code If-Match} the update only applies if the item is still at that version
+     * (its ETag); either way, an item modified between reading and saving it is not
+     * overwritten, and the request fails with 412 instead.
      *
-     * @param id  the positive identifier of the item to update
-     * @param req the ItemRequest DTO (validated) containing updated data
-     * @return ResponseEntity containing the updated Item and HTTP status 200 OK
-     * @throws ResponseStatusException with status 404 if item not found
+     * @param id      the positive identifier of the item to update
+     * @param req     the ItemRequest DTO (validated) containing updated data
+     * @param ifMatch optional entity tags of the version the client last saw
+     * @return ResponseEntity containing the updated Item, its new ETag and HTTP status 200 OK
+     * @throws ResponseStatusException with status 404 if item not found, or 412 if it was modified
      */
     @PutMapping("/{id}")
     public ResponseEntity<Item> update(
             @PathVariable @Positive Long id,
-            @Valid @RequestBody ItemRequest req) {
+            @Validated @RequestBody ItemRequest req,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Item updated = service.findById(id)
                 .map(existing -> {
+                    if (ItemETags.matchFails(ifMatch, existing.getVersion())) {
+                        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, ITEM_MODIFIED);
+                    }
                     existing.setName(req.getName());
                     existing.setDescription(req.getDescription());
                     existing.setStatus(req.getStatus());
+                    if (!req.getEmail().equals(existing.getEmail())) {
+                        existing.setEmailVerification(emailVerificationStatus());
+                    }
                     existing.setEmail(req.getEmail());
                     return service.save(existing);
                 })
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "Item not found"));
-        return ResponseEntity.ok(updated);
+        return withItemETag(withEmailVerification(ResponseEntity.ok()), updated.getVersion()).body(updated);
     }
 
     /**
      * Delete an item by its identifier.
+     * With {@code If-Match} the item is only deleted if it is still at that version,
+     * checked in the delete statement itself.
      *
-     * @param id the positive identifier of the item to delete
+     * @param id      the positive identifier of the item to delete
+     * @param ifMatch optional entity tags of the version the client last saw
      * @return ResponseEntity with HTTP status 204 No Content if deletion succeeds
-     * @throws ResponseStatusException with status 404 if item not found
+     * @throws ResponseStatusException with status 404 if item not found, or 412 if it was modified
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(
-            @PathVariable @Positive Long id) {
+            @PathVariable @Positive Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (!service.existsById(id)) {
             throw new ResponseStatusException(
                     HttpStatus.NOT_FOUND, "Item not found");
         }
-        service.deleteById(id);
+        if (ItemETags.matchesAny(ifMatch)) {
+            service.deleteById(id);
+        } else if (!service.deleteByIdAndVersion(id, ItemETags.itemVersions(ifMatch))) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, ITEM_MODIFIED);
+        }
         return ResponseEntity.noContent().build();
     }
 
@@ -142,4 +431,131 @@ public class ItemController {
         return service.processItemsAsync()
                 .thenApply(ResponseEntity::ok);
     }
+
+    /**
+     * Process all items and stream each result as a server-sent event the moment it commits.
+     * Emits {@code processed} and {@code failed} events, then one final {@code summary} event.
+     *
+     * @return SseEmitter streaming the processing events
+     */
+    @GetMapping(value = "/process", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter processItemsAsEvents() {
+        SseEmitter emitter = new SseEmitter(NO_TIMEOUT);
+        ProcessingEventSink sink = new ProcessingEventSink(emitter, event ->
+                emitter.send(SseEmitter.event()
+                        .name(event.type())
+                        .data(event, MediaType.APPLICATION_JSON)));
+        jobs.processInBackground(sink).whenComplete(sink::finish);
+        return emitter;
+    }
+
+    /**
+     * Process all items and stream each result as one NDJSON line the moment it commits.
+     * The last line carries the run summary.
+     *
+     * @return ResponseEntity wrapping the emitter, with content type {@code application/x-ndjson}
+     */
+    @GetMapping(value = "/process", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> processItemsAsNdjson() {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(NO_TIMEOUT);
+        ProcessingEventSink sink = new ProcessingEventSink(emitter, event -> {
+            emitter.send(event, MediaType.APPLICATION_JSON);
+            emitter.send("\n", MediaType.TEXT_PLAIN);
+        });
+        jobs.processInBackground(sink).whenComplete(sink::finish);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(emitter);
+    }
+
+    /**
+     * Asynchronously process all items and return only a summary.
+     * No entity list is built or serialised, so memory use does not grow with the table.
+     * The scan runs on the job executor, so the request thread is released at once.
+     *
+     * @return CompletableFuture wrapping a ResponseEntity with counts, duration, and failed ids
+     */
+    @GetMapping(value = "/process", params = "result=summary")
+    public CompletableFuture<ResponseEntity<ProcessingSummary>> processItemsSummary() {
+        return jobs.processInBackground(ItemProcessingListener.NONE)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Process all items in chunks of IDs, one bulk UPDATE per chunk and transaction.
+     *
+     * @param chunkSize optional number of IDs per chunk, at most {@value #MAX_CHUNK_SIZE};
+     *                  defaults to {@code items.processing.chunk-size}
+     * @return CompletableFuture wrapping a ResponseEntity with the per-chunk report
+     */
+    @GetMapping(value = "/process", params = "mode=chunked")
+    public CompletableFuture<ResponseEntity<ChunkedProcessingReport>> processItemsInChunks(
+            @RequestParam(required = false) @Positive @Max(MAX_CHUNK_SIZE) Integer chunkSize) {
+        return service.processItemsInChunksAsync(chunkSize)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Start chunked processing as a background job and return immediately.
+     * Passing the id of an unfinished job resumes it from its last checkpoint.
+     *
+     * @param chunkSize optional number of IDs per chunk, at most {@value #MAX_CHUNK_SIZE};
+     *                  defaults to {@code items.processing.chunk-size}
+     * @param jobId     optional id of the job to create or resume
+     * @return ResponseEntity with the initial job status, a Location header, and HTTP status 202 Accepted
+     * @throws ResponseStatusException with status 409 if the job is running or already completed
+     */
+    @PostMapping("/process")
+    public ResponseEntity<ProcessingJobStatus> submitProcessingJob(
+            @RequestParam(required = false) @Positive @Max(MAX_CHUNK_SIZE) Integer chunkSize,
+            @RequestParam(required = false) @Size(max = 64) String jobId) {
+        ProcessingJobStatus job;
+        try {
+            job = jobs.submit(chunkSize, jobId);
+        } catch (IllegalStateException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, ex.getMessage());
+        }
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{jobId}")
+                .replaceQuery(null)
+                .buildAndExpand(job.jobId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    /**
+     * Report progress, throughput, and ETA of a background processing job.
+     *
+     * @param jobId the job identifier returned on submission
+     * @return ResponseEntity containing the job status and HTTP status 200 OK
+     * @throws ResponseStatusException with status 404 if the job is unknown
+     */
+    @GetMapping("/process/{jobId}")
+    public ResponseEntity<ProcessingJobStatus> getProcessingJob(@PathVariable String jobId) {
+        return jobs.status(jobId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "Job not found"));
+    }
+
+    /**
+     * Cancel a running background processing job.
+     * Chunks already submitted still commit; no further chunks are started.
+     *
+     * @param jobId the job identifier returned on submission
+     * @return ResponseEntity containing the job status and HTTP status 202 Accepted
+     * @throws ResponseStatusException with status 404 if the job is unknown,
+     *                                 or 409 if it has already finished
+     */
+    @DeleteMapping("/process/{jobId}")
+    public ResponseEntity<ProcessingJobStatus> cancelProcessingJob(@PathVariable String jobId) {
+        try {
+            return jobs.cancel(jobId)
+                    .map(status -> ResponseEntity.accepted().body(status))
+                    .orElseThrow(() -> new ResponseStatusException(
+                            HttpStatus.NOT_FOUND, "Job not found"));
+        } catch (IllegalStateException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, ex.getMessage());
+        }
+    }
 }
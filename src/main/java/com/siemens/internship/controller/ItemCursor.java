@@ -0,0 +1,54 @@
+package com.siemens.internship.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for {@code GET /api/items?limit=..&after=..}.
+ *
+ * Encodes the id of the last item of a page as URL-safe Base64, so clients treat it as a
+ * token and the seek key can change without breaking the API.
+ */
+final class ItemCursor {
+
+    /** Version prefix, so a cursor issued by an older format is rejected instead of misread. */
+    private static final String PREFIX = "id:";
+
+    private ItemCursor() {
+    }
+
+    /**
+     * @param afterId id of the last item returned
+     * @return cursor continuing after that item
+     */
+    static String encode(long afterId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + afterId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param cursor cursor from a previous page, or {@code null} for the first page
+     * @return id to continue after (0 for the first page)
+     * @throws ResponseStatusException with status 400 if the cursor was not issued by {@link #encode}
+     */
+    static long decode(String cursor) {
+        if (cursor == null) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (raw.startsWith(PREFIX)) {
+                long afterId = Long.parseLong(raw.substring(PREFIX.length()));
+                if (afterId >= 0) {
+                    return afterId;
+                }
+            }
+        } catch (IllegalArgumentException ignored) {
+            // Malformed Base64 or id, reported below
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+}
@@ -0,0 +1,102 @@
+package com.siemens.internship.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Strong entity tags of item representations, and {@code If-None-Match}/{@code If-Match} evaluation.
+ *
+ * An item's tag is its {@code @Version}; the collection's tag is the table-wide change
+ * counter. Both change whenever the representation can, so they can be compared without
+ * loading or serialising anything.
+ */
+final class ItemETags {
+
+    private ItemETags() {
+    }
+
+    /**
+     * @param version the item's version
+     * @return quoted entity tag of the item
+     */
+    static String ofItem(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * @param changeCount the table-wide change counter
+     * @return quoted entity tag of the item collection
+     */
+    static String ofCollection(long changeCount) {
+        return "\"items-" + changeCount + "\"";
+    }
+
+    /**
+     * Evaluate {@code If-None-Match} with the weak comparison it calls for:
+     * {@code W/} prefixes are ignored, and {@code *} matches any current representation.
+     *
+     * @param ifNoneMatch header value (comma-separated tags), or null if absent
+     * @param etag        quoted tag of the current representation
+     * @return true if the client already has the current representation
+     */
+    static boolean noneMatchFails(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param ifMatch header value, or null if absent
+     * @return true if the request is unconditional on the item's version
+     *         (no {@code If-Match}, or {@code *}, which any existing item matches)
+     */
+    static boolean matchesAny(String ifMatch) {
+        return ifMatch == null || ifMatch.trim().equals("*");
+    }
+
+    /**
+     * Versions named by {@code If-Match}, which calls for the strong comparison:
+     * weak tags and tags that are not item tags never match.
+     *
+     * @param ifMatch header value (comma-separated tags)
+     * @return the versions the client expects the item to be at, possibly empty
+     */
+    static List<Long> itemVersions(String ifMatch) {
+        List<Long> versions = new ArrayList<>();
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                try {
+                    versions.add(Long.parseLong(tag.substring(1, tag.length() - 1)));
+                } catch (NumberFormatException ignored) {
+                    // Not an item tag, so it cannot match
+                }
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Evaluate {@code If-Match} against an existing item.
+     *
+     * @param ifMatch header value, or null if absent
+     * @param version the item's current version
+     * @return true if the client's copy is stale and the request must fail with 412
+     */
+    static boolean matchFails(String ifMatch, Long version) {
+        return !matchesAny(ifMatch) && !itemVersions(ifMatch).contains(version);
+    }
+}
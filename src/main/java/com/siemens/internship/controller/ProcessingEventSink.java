@@ -0,0 +1,85 @@
+package com.siemens.internship.controller;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemProcessingEvent;
+import com.siemens.internship.model.ProcessingSummary;
+import com.siemens.internship.service.ItemProcessingListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+
+/**
+ * Bridges processing callbacks to a streaming HTTP response.
+ *
+ * Callbacks arrive concurrently from processing threads, so writes are
+ * serialised here; once the client disconnects further events are dropped
+ * while the run itself continues.
+ */
+@Slf4j
+class ProcessingEventSink implements ItemProcessingListener {
+
+    /**
+     * Writes one event to the underlying emitter.
+     */
+    @FunctionalInterface
+    interface EventWriter {
+        void write(ItemProcessingEvent event) throws IOException;
+    }
+
+    private final ResponseBodyEmitter emitter;
+    private final EventWriter writer;
+    private boolean closed;
+
+    /**
+     * @param emitter the emitter to complete when the run ends
+     * @param writer  how a single event is framed on the emitter
+     */
+    ProcessingEventSink(ResponseBodyEmitter emitter, EventWriter writer) {
+        this.emitter = emitter;
+        this.writer = writer;
+    }
+
+    @Override
+    public void onProcessed(Item item) {
+        send(ItemProcessingEvent.processed(item));
+    }
+
+    @Override
+    public void onFailed(Long id, Throwable cause) {
+        send(ItemProcessingEvent.failed(id, cause));
+    }
+
+    /**
+     * Emit the final summary event and close the stream.
+     *
+     * @param summary the run totals, or {@code null} if the run failed
+     * @param error   the failure that aborted the run, or {@code null}
+     */
+    synchronized void finish(ProcessingSummary summary, Throwable error) {
+        if (closed) {
+            return;
+        }
+        if (error != null) {
+            closed = true;
+            emitter.completeWithError(error);
+            return;
+        }
+        send(ItemProcessingEvent.summary(summary));
+        closed = true;
+        emitter.complete();
+    }
+
+    private synchronized void send(ItemProcessingEvent event) {
+        if (closed) {
+            return;
+        }
+        try {
+            writer.write(event);
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away or the emitter timed out; stop writing
+            log.debug("Dropping processing events after stream failure: {}", ex.getMessage());
+            closed = true;
+        }
+    }
+}
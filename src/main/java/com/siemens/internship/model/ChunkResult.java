@@ -0,0 +1,35 @@
+package com.siemens.internship.model;
+
+/**
+ * Outcome of one chunk of a bulk processing run.
+ * Fields:
+ *   {@code chunk} – zero-based position of the chunk in the run
+ *   {@code firstId} / {@code lastId} – id range covered by the chunk
+ *   {@code size} – number of ids submitted in the chunk
+ *   {@code updated} – rows changed by the bulk update (0 on failure)
+ *   {@code success} – whether the chunk's transaction committed
+ *   {@code error} – failure message, {@code null} on success
+ */
+public record ChunkResult(
+        int     chunk,
+        Long    firstId,
+        Long    lastId,
+        int     size,
+        int     updated,
+        boolean success,
+        String  error
+) {
+    /**
+     * Factory for a committed chunk.
+     */
+    public static ChunkResult succeeded(int chunk, Long firstId, Long lastId, int size, int updated) {
+        return new ChunkResult(chunk, firstId, lastId, size, updated, true, null);
+    }
+
+    /**
+     * Factory for a chunk whose transaction was rolled back.
+     */
+    public static ChunkResult failed(int chunk, Long firstId, Long lastId, int size, Throwable cause) {
+        return new ChunkResult(chunk, firstId, lastId, size, 0, false, String.valueOf(cause.getMessage()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.siemens.internship.model;
+
+import java.util.List;
+
+/**
+ * Summary of a chunked, set-based processing run.
+ * Fields:
+ *   {@code chunkSize} – maximum number of ids per chunk
+ *   {@code chunks} – number of chunks submitted
+ *   {@code processed} – rows updated by committed chunks
+ *   {@code failed} – ids belonging to rolled-back chunks
+ *   {@code results} – per-chunk outcome, in id order
+ */
+public record ChunkedProcessingReport(
+        int               chunkSize,
+        int               chunks,
+        long              processed,
+        long              failed,
+        List<ChunkResult> results
+) {
+    /**
+     * Aggregates per-chunk results into a report.
+     *
+     * @param chunkSize the chunk size used for the run
+     * @param results   the outcome of every chunk
+     * @return new ChunkedProcessingReport instance
+     */
+    public static ChunkedProcessingReport of(int chunkSize, List<ChunkResult> results) {
+        long processed = results.stream().mapToLong(ChunkResult::updated).sum();
+        long failed = results.stream()
+                .filter(r -> !r.success())
+                .mapToLong(ChunkResult::size)
+                .sum();
+        return new ChunkedProcessingReport(chunkSize, results.size(), processed, failed, results);
+    }
+}
@@ -0,0 +1,29 @@
+package com.siemens.internship.model;
+
+import java.util.List;
+
+/**
+ * Result of a batch email validation.
+ * Fields:
+ *   {@code addresses} – number of submitted addresses
+ *   {@code distinctDomains} – number of distinct well-formed domains that were resolved
+ *   {@code valid} – number of addresses with a {@code VALID} verdict
+ *   {@code results} – one verdict per address, in submission order
+ */
+public record EmailValidationReport(
+        int                addresses,
+        int                distinctDomains,
+        long               valid,
+        List<EmailVerdict> results
+) {
+
+    /**
+     * @param results         verdicts in submission order
+     * @param distinctDomains number of distinct resolved domains
+     * @return the report with counts derived from the verdicts
+     */
+    public static EmailValidationReport of(List<EmailVerdict> results, int distinctDomains) {
+        return new EmailValidationReport(results.size(), distinctDomains,
+                results.stream().filter(EmailVerdict::valid).count(), results);
+    }
+}
@@ -0,0 +1,32 @@
+package com.siemens.internship.model;
+
+/**
+ * Validation outcome for one address of a batch.
+ * Fields:
+ *   {@code email} – the address as submitted
+ *   {@code status} – the verdict
+ */
+public record EmailVerdict(
+        String email,
+        Status status
+) {
+
+    /** @return true if the address passed both the format and the MX check */
+    public boolean valid() {
+        return status == Status.VALID;
+    }
+
+    /**
+     * Verdict of a single address.
+     */
+    public enum Status {
+        /** Well-formed, and the domain publishes MX records. */
+        VALID,
+        /** Rejected by the format check; no DNS lookup was made. */
+        INVALID_FORMAT,
+        /** The domain has no MX records or does not exist. */
+        NO_MX,
+        /** DNS did not answer in time; deliverability is unknown. */
+        UNRESOLVED
+    }
+}
@@ -0,0 +1,13 @@
+package com.siemens.internship.model;
+
+/**
+ * Deliverability check state of an {@link Item}'s email address.
+ */
+public enum EmailVerificationStatus {
+    /** Well-formed, MX check not done yet; picked up by the background verification pipeline. */
+    PENDING,
+    /** The domain publishes MX records. */
+    VERIFIED,
+    /** The domain publishes no MX records. */
+    UNDELIVERABLE
+}
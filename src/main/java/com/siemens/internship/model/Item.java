@@ -1,18 +1,28 @@
 package com.siemens.internship.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Locale;
+
 /**
  * JPA entity representing an Item.
  *
  * Note: all columns are non-null at the DB level where DTO enforces mandatory fields.
+ * The (status, id) index serves the processing scans and status-filtered reads,
+ * which select statuses in id order; (email_domain, id) serves domain-filtered
+ * reads; (email_verification, id) serves the scan for pending email verifications.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_item_status_id", columnList = "status, id"),
+        @Index(name = "idx_item_email_domain_id", columnList = "email_domain, id"),
+        @Index(name = "idx_item_email_verification_id", columnList = "email_verification, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class Item {
 
     /** Auto-generated primary key. */
@@ -35,4 +45,66 @@ public class Item {
     /** Unique user email (max 120 chars); non-null. */
     @Column(nullable = false, unique = true, length = 120)
     private String email;
+
+    /** Deliverability check state of {@link #email}; null for items stored before it was tracked. */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private EmailVerificationStatus emailVerification;
+
+    /** Optimistic lock version, incremented on every write; the item's ETag is derived from it. */
+    @Version
+    private Long version;
+
+    /** Lower-cased domain part of {@link #email}, derived on every write so it can be indexed. */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(length = 120)
+    private String emailDomain;
+
+    /**
+     * @param id                primary key, or null for a new item
+     * @param name              item name
+     * @param description       optional description
+     * @param status            processing status
+     * @param email             contact email
+     * @param emailVerification deliverability check state of the email
+     */
+    public Item(Long id, String name, String description, String status, String email,
+                EmailVerificationStatus emailVerification) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.status = status;
+        this.email = email;
+        this.emailVerification = emailVerification;
+    }
+
+    /**
+     * Item whose email verification state is not tracked.
+     *
+     * @param id          primary key, or null for a new item
+     * @param name        item name
+     * @param description optional description
+     * @param status      processing status
+     * @param email       contact email
+     */
+    public Item(Long id, String name, String description, String status, String email) {
+        this(id, name, description, status, email, null);
+    }
+
+    /** Keep {@link #emailDomain} in step with {@link #email}. */
+    @PrePersist
+    @PreUpdate
+    void deriveEmailDomain() {
+        emailDomain = domainOf(email);
+    }
+
+    /**
+     * @param email an email address, or null
+     * @return its lower-cased domain part, or null if there is none
+     */
+    public static String domainOf(String email) {
+        int at = email == null ? -1 : email.lastIndexOf('@');
+        return at < 0 ? null : email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
 }
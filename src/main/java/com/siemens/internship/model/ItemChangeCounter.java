@@ -0,0 +1,30 @@
+package com.siemens.internship.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * JPA entity holding the table-wide change counter of {@link Item}.
+ *
+ * A single row, advanced after every committed item write; the collection
+ * ETag of {@code GET /api/items} is derived from it.
+ */
+@Entity
+@Table(name = "item_change_counter")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemChangeCounter {
+
+    /** Primary key of the single counter row. */
+    public static final int ID = 1;
+
+    /** Always {@link #ID}. */
+    @Id
+    private Integer id;
+
+    /** Number of committed item writes observed so far. */
+    @Column(nullable = false)
+    private long changes;
+}
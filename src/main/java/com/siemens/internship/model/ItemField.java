@@ -0,0 +1,57 @@
+package com.siemens.internship.model;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * {@link Item} attributes a client may select with {@code ?fields=}; each maps to the
+ * entity attribute and JSON property of the same name.
+ */
+public enum ItemField {
+    ID("id"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    EMAIL("email"),
+    EMAIL_VERIFICATION("emailVerification"),
+    VERSION("version");
+
+    private final String property;
+
+    ItemField(String property) {
+        this.property = property;
+    }
+
+    /** @return the entity attribute and JSON property name */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Resolve a sparse fieldset. The id and version are always included, so every projected
+     * item can be addressed, paginated, and tagged with its ETag.
+     *
+     * @param names property names as requested, e.g. {@code ["status", "email"]}; blanks are ignored
+     * @return the selected fields, in declaration order
+     * @throws IllegalArgumentException if a name is not an item property
+     */
+    public static Set<ItemField> parse(Collection<String> names) {
+        Set<ItemField> fields = EnumSet.of(ID, VERSION);
+        for (String name : names) {
+            if (!name.isBlank()) {
+                fields.add(byProperty(name.trim()));
+            }
+        }
+        return fields;
+    }
+
+    private static ItemField byProperty(String name) {
+        for (ItemField field : values()) {
+            if (field.property.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + name);
+    }
+}
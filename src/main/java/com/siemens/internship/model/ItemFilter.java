@@ -0,0 +1,39 @@
+package com.siemens.internship.model;
+
+/**
+ * Optional filters on item reads; a null component matches every item.
+ * Fields:
+ *   {@code status} – exact status, e.g. {@code NEW}
+ *   {@code emailDomain} – lower-cased email domain, e.g. {@code example.com}
+ */
+public record ItemFilter(
+        String status,
+        String emailDomain
+) {
+
+    /** Matches every item. */
+    public static final ItemFilter NONE = new ItemFilter(null, null);
+
+    /**
+     * Build a filter from request parameters: blanks are ignored, and the domain is
+     * lower-cased and may be given with a leading {@code @}.
+     *
+     * @param status      optional status
+     * @param emailDomain optional email domain
+     * @return the filter
+     */
+    public static ItemFilter of(String status, String emailDomain) {
+        String domain = emailDomain == null || emailDomain.isBlank() ? null : emailDomain.trim();
+        if (domain != null && domain.startsWith("@")) {
+            domain = domain.substring(1);
+        }
+        return new ItemFilter(
+                status == null || status.isBlank() ? null : status.trim(),
+                domain == null ? null : Item.domainOf("@" + domain));
+    }
+
+    /** @return true if this filter matches every item */
+    public boolean isEmpty() {
+        return status == null && emailDomain == null;
+    }
+}
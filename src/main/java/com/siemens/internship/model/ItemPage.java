@@ -0,0 +1,15 @@
+package com.siemens.internship.model;
+
+import java.util.List;
+
+/**
+ * One keyset page of items, as entities or as sparse fieldsets.
+ * Fields:
+ *   {@code items} – the page content, ascending by id
+ *   {@code nextAfterId} – id to continue after, or {@code null} on the last page
+ */
+public record ItemPage<T>(
+        List<T>    items,
+        Long       nextAfterId
+) {
+}
@@ -0,0 +1,46 @@
+package com.siemens.internship.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One event of a streamed processing run, emitted as an SSE event or an NDJSON line.
+ * Fields:
+ *   {@code type} – {@code processed}, {@code failed}, or the final {@code summary}
+ *   {@code id} – item id (item events only)
+ *   {@code item} – the saved item ({@code processed} only)
+ *   {@code error} – failure message ({@code failed} only)
+ *   {@code summary} – run totals ({@code summary} only)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ItemProcessingEvent(
+        String            type,
+        Long              id,
+        Item              item,
+        String            error,
+        ProcessingSummary summary
+) {
+    public static final String PROCESSED = "processed";
+    public static final String FAILED = "failed";
+    public static final String SUMMARY = "summary";
+
+    /**
+     * Event for an item whose transaction committed.
+     */
+    public static ItemProcessingEvent processed(Item item) {
+        return new ItemProcessingEvent(PROCESSED, item.getId(), item, null, null);
+    }
+
+    /**
+     * Event for an item whose processing failed.
+     */
+    public static ItemProcessingEvent failed(Long id, Throwable cause) {
+        return new ItemProcessingEvent(FAILED, id, null, String.valueOf(cause.getMessage()), null);
+    }
+
+    /**
+     * Final event carrying the run totals.
+     */
+    public static ItemProcessingEvent summary(ProcessingSummary summary) {
+        return new ItemProcessingEvent(SUMMARY, null, null, null, summary);
+    }
+}
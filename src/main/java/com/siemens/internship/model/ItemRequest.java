@@ -1,6 +1,7 @@
 package com.siemens.internship.model;
 
 import com.siemens.internship.service.ValidEmail;
+import com.siemens.internship.validation.GenerateValidator;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
@@ -8,7 +9,11 @@ import lombok.*;
  * DTO for creating or updating an Item.
  * Validation annotations ensure incoming JSON is well-formed
  * before reaching business logic.
+ *
+ * The controller path checks them with the compile-time generated {@code ItemRequestValidator}
+ * (see {@link GenerateValidator}); the annotations stay the single source of the rules.
  */
+@GenerateValidator
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 public class ItemRequest {
@@ -0,0 +1,43 @@
+package com.siemens.internship.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * JPA entity persisting the progress of a background processing job.
+ *
+ * {@code lastProcessedId} is a watermark: every item with a lower or equal id
+ * has been committed by the job, so a resumed run can continue after it.
+ */
+@Entity
+@Table(name = "processing_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessingCheckpoint {
+
+    /** Job identifier (client supplied or generated UUID). */
+    @Id
+    @Column(length = 64)
+    private String jobId;
+
+    /** Highest item id below which all chunks have committed. */
+    @Column(nullable = false)
+    private long lastProcessedId;
+
+    /** Chunk size the job was started with, reused on resume. */
+    @Column(nullable = false)
+    private int chunkSize;
+
+    /** Lifecycle state; RUNNING checkpoints belong to interrupted or active jobs. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProcessingJobStatus.State state;
+
+    /** Time of the last watermark or state change. */
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
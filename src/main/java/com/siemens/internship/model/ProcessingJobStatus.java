@@ -0,0 +1,44 @@
+package com.siemens.internship.model;
+
+import java.time.Instant;
+
+/**
+ * Point-in-time view of a background processing job.
+ * Fields:
+ *   {@code jobId} – identifier returned when the job was submitted
+ *   {@code state} – lifecycle state
+ *   {@code total} – items present when the job started
+ *   {@code processed} / {@code failed} / {@code remaining} – progress counters
+ *   {@code lastCommittedId} – checkpoint watermark; a resumed job continues after it
+ *   {@code startedAt} / {@code finishedAt} – timestamps ({@code finishedAt} is null while running)
+ *   {@code throughputPerSecond} – processed items per second so far
+ *   {@code etaSeconds} – estimated seconds to completion, null when unknown or finished
+ */
+public record ProcessingJobStatus(
+        String  jobId,
+        State   state,
+        long    total,
+        long    processed,
+        long    failed,
+        long    remaining,
+        long    lastCommittedId,
+        Instant startedAt,
+        Instant finishedAt,
+        double  throughputPerSecond,
+        Long    etaSeconds
+) {
+    /**
+     * Lifecycle of a processing job.
+     */
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED;
+
+        /** @return true once the job can no longer change */
+        public boolean isFinished() {
+            return this != RUNNING;
+        }
+    }
+}
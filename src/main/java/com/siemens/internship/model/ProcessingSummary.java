@@ -0,0 +1,19 @@
+package com.siemens.internship.model;
+
+import java.util.List;
+
+/**
+ * Compact result of a processing run, returned instead of the processed entities.
+ * Fields:
+ *   {@code processed} – items saved successfully
+ *   {@code failed} – items whose processing failed
+ *   {@code durationMs} – wall-clock duration of the run
+ *   {@code failedIds} – ids of the failed items, ascending
+ */
+public record ProcessingSummary(
+        long       processed,
+        long       failed,
+        long       durationMs,
+        List<Long> failedIds
+) {
+}
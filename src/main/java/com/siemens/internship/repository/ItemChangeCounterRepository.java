@@ -0,0 +1,36 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.ItemChangeCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for the {@link ItemChangeCounter} row.
+ */
+@Repository
+public interface ItemChangeCounterRepository extends JpaRepository<ItemChangeCounter, Integer> {
+
+    /**
+     * Read the counter value without loading the entity.
+     *
+     * @param id the counter row id
+     * @return the current value, or empty if the row does not exist yet
+     */
+    @Query("SELECT c.changes FROM ItemChangeCounter c WHERE c.id = :id")
+    Optional<Long> findChanges(@Param("id") int id);
+
+    /**
+     * Advance the counter by one in place.
+     *
+     * @param id the counter row id
+     * @return number of rows updated (0 if the row is missing)
+     */
+    @Modifying
+    @Query("UPDATE ItemChangeCounter c SET c.changes = c.changes + 1 WHERE c.id = :id")
+    int increment(@Param("id") int id);
+}
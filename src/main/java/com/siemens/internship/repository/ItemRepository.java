@@ -1,20 +1,31 @@
 package com.siemens.internship.repository;
 
+import com.siemens.internship.model.EmailVerificationStatus;
 import com.siemens.internship.model.Item;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for {@link Item} persistence operations.
  *
  * Provides CRUD functionality inherited from JpaRepository,
- * plus custom queries for optimized async processing.
+ * plus custom queries for optimized async processing
+ * and filtered or sparse fieldset reads from {@link ItemSearchRepository}.
  */
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemSearchRepository {
 
     /**
      * Retrieve all Item IDs without loading full entity data.
@@ -25,4 +36,152 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
      */
     @Query("SELECT i.id FROM Item i")
     List<Long> findAllIds();
+
+    /**
+     * Rows fetched per round trip while streaming; only this many are buffered by the driver.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Stream all Items in ascending id order from an open database cursor.
+     *
+     * Rows are fetched {@link #STREAM_FETCH_SIZE} at a time and loaded read-only, so no
+     * dirty-checking snapshots are kept. Must be consumed inside a transaction and closed.
+     *
+     * @return a lazily populated stream of all Items
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM Item i ORDER BY i.id")
+    Stream<Item> streamAllByOrderByIdAsc();
+
+    /**
+     * Keyset page over all Items: those with an id strictly greater than {@code afterId}.
+     *
+     * Seeks on the primary key instead of using OFFSET, so deep pages cost the same as the first.
+     *
+     * @param afterId  exclusive lower bound (use 0 to start from the beginning)
+     * @param pageable page size; the page number is expected to be 0
+     * @return up to {@code pageable.getPageSize()} Items in ascending id order
+     */
+    List<Item> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * Read the version of an Item without loading it, to answer conditional requests.
+     *
+     * @param id the Item ID
+     * @return the current version, or empty if the item does not exist
+     */
+    @Query("SELECT i.version FROM Item i WHERE i.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Delete an Item only if it is still at one of the given versions, in a single statement,
+     * so a writer holding a stale copy cannot remove a newer one.
+     *
+     * @param id       the Item ID
+     * @param versions versions the caller last saw
+     * @return number of rows deleted (0 if the item is gone or at another version)
+     */
+    @Modifying
+    @Query("DELETE FROM Item i WHERE i.id = :id AND i.version IN :versions")
+    int deleteByIdAndVersionIn(@Param("id") Long id, @Param("versions") Collection<Long> versions);
+
+    /**
+     * Retrieve all Items whose status is one of the given values.
+     *
+     * @param statuses the statuses to match
+     * @return matching Items
+     */
+    List<Item> findByStatusIn(Collection<String> statuses);
+
+    /**
+     * Keyset page of Items in the given statuses with an id strictly greater than {@code afterId}.
+     *
+     * @param statuses the statuses to match
+     * @param afterId  exclusive lower bound (use 0 to start from the beginning)
+     * @param pageable page size; the page number is expected to be 0
+     * @return up to {@code pageable.getPageSize()} Items in ascending id order
+     */
+    List<Item> findByStatusInAndIdGreaterThanOrderByIdAsc(Collection<String> statuses,
+                                                          Long afterId,
+                                                          Pageable pageable);
+
+    /**
+     * Keyset scan over items in the given statuses: the next page of IDs strictly after {@code afterId}.
+     *
+     * Seeks on the (status, id) index instead of using OFFSET, so every page costs the same
+     * and rows that do not need processing are never visited.
+     *
+     * @param statuses the statuses to match
+     * @param afterId  exclusive lower bound (use 0 to start from the beginning)
+     * @param pageable page size; the page number is expected to be 0
+     * @return up to {@code pageable.getPageSize()} IDs in ascending order
+     */
+    @Query("SELECT i.id FROM Item i WHERE i.status IN :statuses AND i.id > :afterId ORDER BY i.id")
+    List<Long> findIdsByStatusAfter(@Param("statuses") Collection<String> statuses,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    /**
+     * Count items in the given statuses with an id strictly greater than {@code afterId}.
+     *
+     * @param statuses the statuses to match
+     * @param afterId  exclusive lower bound
+     * @return number of matching items
+     */
+    long countByStatusInAndIdGreaterThan(Collection<String> statuses, Long afterId);
+
+    /**
+     * Set-based status transition for a chunk of items, issued as a single UPDATE statement.
+     *
+     * Rows whose status changed since they were scanned are left untouched; updated rows
+     * get a new version, as an entity update would.
+     *
+     * @param ids    the IDs to update
+     * @param from   statuses eligible for the transition
+     * @param target the new status value
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Item i SET i.status = :target, i.version = i.version + 1 "
+            + "WHERE i.id IN :ids AND i.status IN :from")
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("from") Collection<String> from,
+                         @Param("target") String target);
+
+    /**
+     * Keyset page of Items in the given email verification state with an id strictly greater than {@code afterId}.
+     *
+     * @param state    the verification state to match
+     * @param afterId  exclusive lower bound (use 0 to start from the beginning)
+     * @param pageable page size; the page number is expected to be 0
+     * @return up to {@code pageable.getPageSize()} Items in ascending id order
+     */
+    List<Item> findByEmailVerificationAndIdGreaterThanOrderByIdAsc(EmailVerificationStatus state,
+                                                                  Long afterId,
+                                                                  Pageable pageable);
+
+    /**
+     * Set-based email verification transition, issued as a single UPDATE statement.
+     * Must run inside the caller's transaction.
+     *
+     * Rows whose state or email changed since they were scanned are left untouched; updated
+     * rows get a new version, as an entity update would.
+     *
+     * @param ids    the IDs to update
+     * @param emails the emails the IDs were scanned with
+     * @param from   the state the rows must still be in
+     * @param target the new state
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Item i SET i.emailVerification = :target, i.version = i.version + 1 "
+            + "WHERE i.id IN :ids AND i.email IN :emails AND i.emailVerification = :from")
+    int transitionEmailVerification(@Param("ids") Collection<Long> ids,
+                                    @Param("emails") Collection<String> emails,
+                                    @Param("from") EmailVerificationStatus from,
+                                    @Param("target") EmailVerificationStatus target);
 }
@@ -0,0 +1,88 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemField;
+import com.siemens.internship.model.ItemFilter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Filtered and sparse fieldset reads of {@link Item}, mixed into {@link ItemRepository}.
+ *
+ * Filters seek on the (status, id) and (email_domain, id) indexes in id order. Projected
+ * reads select only the requested columns, as tuples, so no managed entities are created
+ * and unrequested columns such as the description are never read.
+ */
+public interface ItemSearchRepository {
+
+    /**
+     * Retrieve all Items matching the filter in ascending id order.
+     *
+     * @param filter the filter to apply
+     * @return matching Items
+     */
+    List<Item> findAllFiltered(ItemFilter filter);
+
+    /**
+     * Keyset page of Items matching the filter with an id strictly greater than {@code afterId}.
+     *
+     * @param filter  the filter to apply
+     * @param afterId exclusive lower bound (use 0 to start from the beginning)
+     * @param limit   maximum number of rows
+     * @return up to {@code limit} Items in ascending id order
+     */
+    List<Item> findFilteredAfter(ItemFilter filter, long afterId, int limit);
+
+    /**
+     * Stream the Items matching the filter in ascending id order from an open database cursor,
+     * fetched and loaded like {@link ItemRepository#streamAllByOrderByIdAsc()}.
+     * Must be consumed inside a transaction and closed.
+     *
+     * @param filter the filter to apply
+     * @return a lazily populated stream of matching Items
+     */
+    Stream<Item> streamFiltered(ItemFilter filter);
+
+    /**
+     * Retrieve the given fields of all Items matching the filter in ascending id order.
+     *
+     * @param fields the fields to select
+     * @param filter the filter to apply
+     * @return one map per item, keyed by property name in field order
+     */
+    List<Map<String, Object>> findAllProjected(Set<ItemField> fields, ItemFilter filter);
+
+    /**
+     * Keyset page of the given fields of Items matching the filter with an id strictly greater than {@code afterId}.
+     *
+     * @param fields  the fields to select; must include {@link ItemField#ID}
+     * @param filter  the filter to apply
+     * @param afterId exclusive lower bound (use 0 to start from the beginning)
+     * @param limit   maximum number of rows
+     * @return up to {@code limit} maps in ascending id order
+     */
+    List<Map<String, Object>> findProjectedAfter(Set<ItemField> fields, ItemFilter filter, long afterId, int limit);
+
+    /**
+     * Stream the given fields of Items matching the filter in ascending id order from an open
+     * database cursor. Must be consumed inside a transaction and closed.
+     *
+     * @param fields the fields to select
+     * @param filter the filter to apply
+     * @return a lazily populated stream of maps, keyed by property name in field order
+     */
+    Stream<Map<String, Object>> streamProjected(Set<ItemField> fields, ItemFilter filter);
+
+    /**
+     * Retrieve the given fields of one Item.
+     *
+     * @param id     the Item ID
+     * @param fields the fields to select
+     * @return the selected values keyed by property name, or empty if not found
+     */
+    Optional<Map<String, Object>> findProjectedById(Long id, Set<ItemField> fields);
+}
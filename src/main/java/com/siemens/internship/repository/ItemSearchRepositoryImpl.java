@@ -0,0 +1,151 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemField;
+import com.siemens.internship.model.ItemFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Criteria-based implementation of {@link ItemSearchRepository}: one query per read, with
+ * only the filters that are set, and for projections exactly the requested attributes,
+ * each aliased by its property name.
+ */
+class ItemSearchRepositoryImpl implements ItemSearchRepository {
+
+    private final EntityManager entityManager;
+
+    ItemSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Item> findAllFiltered(ItemFilter filter) {
+        return entities(filter, null, null);
+    }
+
+    @Override
+    public List<Item> findFilteredAfter(ItemFilter filter, long afterId, int limit) {
+        return entities(filter, afterId, limit);
+    }
+
+    @Override
+    public Stream<Item> streamFiltered(ItemFilter filter) {
+        CriteriaQuery<Item> q = entityManager.getCriteriaBuilder().createQuery(Item.class);
+        Root<Item> item = q.from(Item.class);
+        q.select(item);
+        return query(q, item, filter, null, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.valueOf(ItemRepository.STREAM_FETCH_SIZE))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<Map<String, Object>> streamProjected(Set<ItemField> fields, ItemFilter filter) {
+        CriteriaQuery<Tuple> q = entityManager.getCriteriaBuilder().createTupleQuery();
+        Root<Item> item = q.from(Item.class);
+        q.multiselect(selections(item, fields));
+        return query(q, item, filter, null, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.valueOf(ItemRepository.STREAM_FETCH_SIZE))
+                .getResultStream()
+                .map(ItemSearchRepositoryImpl::toMap);
+    }
+
+    @Override
+    public List<Map<String, Object>> findAllProjected(Set<ItemField> fields, ItemFilter filter) {
+        return tuples(fields, filter, null, null);
+    }
+
+    @Override
+    public List<Map<String, Object>> findProjectedAfter(Set<ItemField> fields, ItemFilter filter,
+                                                        long afterId, int limit) {
+        return tuples(fields, filter, afterId, limit);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findProjectedById(Long id, Set<ItemField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> q = cb.createTupleQuery();
+        Root<Item> item = q.from(Item.class);
+        q.multiselect(selections(item, fields)).where(cb.equal(item.get("id"), id));
+        return entityManager.createQuery(q).getResultList().stream()
+                .findFirst()
+                .map(ItemSearchRepositoryImpl::toMap);
+    }
+
+    private List<Item> entities(ItemFilter filter, Long afterId, Integer limit) {
+        CriteriaQuery<Item> q = entityManager.getCriteriaBuilder().createQuery(Item.class);
+        Root<Item> item = q.from(Item.class);
+        q.select(item);
+        return run(q, item, filter, afterId, limit);
+    }
+
+    private List<Map<String, Object>> tuples(Set<ItemField> fields, ItemFilter filter, Long afterId, Integer limit) {
+        CriteriaQuery<Tuple> q = entityManager.getCriteriaBuilder().createTupleQuery();
+        Root<Item> item = q.from(Item.class);
+        q.multiselect(selections(item, fields));
+        return run(q, item, filter, afterId, limit).stream()
+                .map(ItemSearchRepositoryImpl::toMap)
+                .toList();
+    }
+
+    /** Rows matching the filter after {@code afterId} (all if null), in id order, at most {@code limit} if set. */
+    private <T> List<T> run(CriteriaQuery<T> q, Root<Item> item, ItemFilter filter, Long afterId, Integer limit) {
+        return query(q, item, filter, afterId, limit).getResultList();
+    }
+
+    /** Query for the rows {@link #run} reads, with only the filters that are set. */
+    private <T> TypedQuery<T> query(CriteriaQuery<T> q, Root<Item> item, ItemFilter filter, Long afterId,
+                                    Integer limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Path<Long> id = item.get("id");
+        List<Predicate> where = new ArrayList<>();
+        if (filter.status() != null) {
+            where.add(cb.equal(item.get("status"), filter.status()));
+        }
+        if (filter.emailDomain() != null) {
+            where.add(cb.equal(item.get("emailDomain"), filter.emailDomain()));
+        }
+        if (afterId != null) {
+            where.add(cb.greaterThan(id, afterId));
+        }
+        q.where(where.toArray(new Predicate[0])).orderBy(cb.asc(id));
+        TypedQuery<T> query = entityManager.createQuery(q);
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        return query;
+    }
+
+    private static List<Selection<?>> selections(Root<Item> item, Set<ItemField> fields) {
+        return fields.stream()
+                .<Selection<?>>map(f -> item.get(f.getProperty()).alias(f.getProperty()))
+                .toList();
+    }
+
+    /** Tuple values keyed by alias, in select order. */
+    private static Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            values.put(element.getAlias(), tuple.get(element));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,43 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.ProcessingCheckpoint;
+import com.siemens.internship.model.ProcessingJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for {@link ProcessingCheckpoint} persistence operations.
+ */
+@Repository
+public interface ProcessingCheckpointRepository extends JpaRepository<ProcessingCheckpoint, String> {
+
+    /**
+     * Find checkpoints in the given state, e.g. RUNNING jobs interrupted by a restart.
+     *
+     * @param state the lifecycle state to match
+     * @return matching checkpoints
+     */
+    List<ProcessingCheckpoint> findByState(ProcessingJobStatus.State state);
+
+    /**
+     * Move the watermark forward; never moves it backwards, so concurrent
+     * writers completing chunks out of order cannot regress it.
+     *
+     * @param jobId           the job identifier
+     * @param lastProcessedId the new watermark
+     * @param now             update timestamp
+     * @return number of rows updated (0 if the stored watermark is already higher)
+     */
+    @Modifying
+    @Query("UPDATE ProcessingCheckpoint c SET c.lastProcessedId = :lastProcessedId, c.updatedAt = :now "
+            + "WHERE c.jobId = :jobId AND c.lastProcessedId < :lastProcessedId")
+    int advance(@Param("jobId") String jobId,
+                @Param("lastProcessedId") long lastProcessedId,
+                @Param("now") Instant now);
+}
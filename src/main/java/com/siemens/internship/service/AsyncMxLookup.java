@@ -0,0 +1,286 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.service.dns.MxResolver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs blocking MX lookups on a dedicated pool so request threads wait at most a fixed deadline.
+ *
+ * At most {@code maxConcurrent} lookups are in flight; beyond that a lookup is not started
+ * and reported as unresolved. Batch lookups may instead wait for a slot, but hold at most
+ * {@code batchConcurrent} of them, so request validation always finds some free.
+ * Concurrent lookups for the same domain share one query.
+ * A lookup that misses the deadline keeps running in the background until the DNS
+ * provider's own timeout, still holding its slot.
+ *
+ * With an {@link MxCircuitBreaker}, each query's outcome is recorded when it finishes, and
+ * while the breaker is open lookups fail at once with {@link MxCircuitOpenException}.
+ */
+@Slf4j
+public class AsyncMxLookup implements MxResolver {
+
+    private final MxResolver delegate;
+    private final Duration timeout;
+    private final Semaphore slots;
+    private final Semaphore batchSlots;
+    private final ExecutorService executor;
+    private final MxCircuitBreaker breaker;
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate      the blocking lookup
+     * @param timeout       how long a caller waits for an answer
+     * @param maxConcurrent maximum lookups in flight
+     */
+    public AsyncMxLookup(MxResolver delegate, Duration timeout, int maxConcurrent) {
+        this(delegate, timeout, maxConcurrent, null);
+    }
+
+    /**
+     * @param delegate      the blocking lookup
+     * @param timeout       how long a caller waits for an answer
+     * @param maxConcurrent maximum lookups in flight, half of which batches may hold
+     * @param breaker       circuit breaker around the queries; null for none
+     */
+    public AsyncMxLookup(MxResolver delegate, Duration timeout, int maxConcurrent, MxCircuitBreaker breaker) {
+        this(delegate, timeout, maxConcurrent, maxConcurrent / 2, breaker);
+    }
+
+    /**
+     * @param delegate        the blocking lookup
+     * @param timeout         how long a caller waits for an answer
+     * @param maxConcurrent   maximum lookups in flight
+     * @param batchConcurrent maximum batch lookups in flight; at least 1 and at most {@code maxConcurrent}
+     * @param breaker         circuit breaker around the queries; null for none
+     */
+    public AsyncMxLookup(MxResolver delegate, Duration timeout, int maxConcurrent, int batchConcurrent,
+                         MxCircuitBreaker breaker) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.timeout = timeout;
+        this.slots = new Semaphore(maxConcurrent);
+        this.batchSlots = new Semaphore(Math.max(1, Math.min(batchConcurrent, maxConcurrent)));
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrent, task -> {
+            Thread thread = new Thread(task, "mx-lookup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Look up a domain, waiting at most the configured deadline.
+     *
+     * @param domain the mail domain
+     * @return true or false when DNS answered in time, null when the outcome is unknown
+     * @throws MxCircuitOpenException if the circuit breaker is open
+     */
+    @Override
+    public Boolean hasMxRecord(String domain) {
+        try {
+            return join(domain).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            log.debug("MX lookup for {} exceeded {}", domain, timeout);
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof MxCircuitOpenException open) {
+                throw open;
+            }
+            log.debug("MX lookup for {} failed", domain, ex.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Look up a domain without blocking the caller.
+     *
+     * @param domain the mail domain
+     * @return completes with true or false when DNS answered within the deadline,
+     *         or with null when the outcome is unknown or the circuit breaker is open;
+     *         never completes exceptionally
+     */
+    public CompletableFuture<Boolean> lookupAsync(String domain) {
+        return withDeadline(join(domain), timeout.toNanos());
+    }
+
+    /**
+     * Look up a domain for a batch: without blocking on the answer, but waiting until
+     * {@code deadline} for a free batch slot instead of being shed.
+     *
+     * The slot is held until the query finishes, even if it misses the deadline, so at most
+     * {@code batchConcurrent} batch queries run however many lookups are submitted this way.
+     *
+     * @param domain   the mail domain
+     * @param deadline {@link System#nanoTime()} by which the batch needs its answers
+     * @return as {@link #lookupAsync}, but also completes with null at {@code deadline},
+     *         or at once if no slot became free before it
+     * @throws InterruptedException if interrupted while waiting for a slot
+     */
+    public CompletableFuture<Boolean> lookupAsyncForBatch(String domain, long deadline) throws InterruptedException {
+        CompletableFuture<Boolean> lookup = inFlight.get(domain);
+        if (lookup == null) {
+            if (!acquireBatchSlot(deadline)) {
+                log.debug("MX lookup for {} not started: no batch slot before the deadline", domain);
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Boolean> created = new CompletableFuture<>();
+            lookup = inFlight.putIfAbsent(domain, created);
+            if (lookup == null) {
+                lookup = created;
+                run(domain, created, true);
+            } else {
+                release(true);
+            }
+        }
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        return withDeadline(lookup, Math.min(timeout.toNanos(), remaining));
+    }
+
+    /**
+     * Stop the lookup threads and release the resolver's resources; called by the container on shutdown.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ex) {
+                log.debug("Error closing MX resolver", ex);
+            }
+        }
+    }
+
+    /**
+     * Join the lookup already in flight for a domain, or start one.
+     */
+    private CompletableFuture<Boolean> join(String domain) {
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> lookup = inFlight.putIfAbsent(domain, created);
+        if (lookup == null) {
+            lookup = created;
+            start(domain, created);
+        }
+        return lookup;
+    }
+
+    /**
+     * Start the query behind a freshly registered in-flight future, or resolve it as unknown
+     * when no slot is free.
+     *
+     * The slot is taken before asking the breaker, so a shed lookup never holds a permission
+     * it could not report, which in the half-open state would use up a probe for good.
+     */
+    private void start(String domain, CompletableFuture<Boolean> lookup) {
+        if (!slots.tryAcquire()) {
+            log.debug("MX lookup for {} shed: all lookup slots in use", domain);
+            inFlight.remove(domain, lookup);
+            lookup.complete(null);
+            return;
+        }
+        run(domain, lookup, false);
+    }
+
+    /**
+     * Take a batch slot and a lookup slot, waiting for each until {@code deadline}.
+     *
+     * @return false if either was not free in time; nothing is held then
+     */
+    private boolean acquireBatchSlot(long deadline) throws InterruptedException {
+        if (!batchSlots.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        if (!slots.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            batchSlots.release();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Free the slots a query held: a lookup slot, and a batch slot for batch lookups.
+     */
+    private void release(boolean batch) {
+        slots.release();
+        if (batch) {
+            batchSlots.release();
+        }
+    }
+
+    /**
+     * Run the query behind a registered in-flight future on the slots already taken by the caller.
+     */
+    private void run(String domain, CompletableFuture<Boolean> lookup, boolean batch) {
+        if (breaker != null && !breaker.tryAcquirePermission()) {
+            inFlight.remove(domain, lookup);
+            release(batch);
+            lookup.completeExceptionally(new MxCircuitOpenException(domain));
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                Boolean present = null;
+                RuntimeException failure = null;
+                try {
+                    present = delegate.hasMxRecord(domain);
+                } catch (RuntimeException ex) {
+                    failure = ex;
+                } finally {
+                    record(present);
+                    // Free the slot before waking callers, so their next lookup can take it
+                    inFlight.remove(domain, lookup);
+                    release(batch);
+                }
+                if (failure != null) {
+                    lookup.completeExceptionally(failure);
+                } else {
+                    lookup.complete(present);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // Only after shutdown
+            record(null);
+            inFlight.remove(domain, lookup);
+            release(batch);
+            lookup.complete(null);
+        }
+    }
+
+    /**
+     * A caller's view of a shared lookup: unknown after {@code waitNanos}, and never exceptional.
+     */
+    private static CompletableFuture<Boolean> withDeadline(CompletableFuture<Boolean> lookup, long waitNanos) {
+        return lookup.copy()
+                .completeOnTimeout(null, waitNanos, TimeUnit.NANOSECONDS)
+                .exceptionally(ex -> null);
+    }
+
+    /**
+     * Report a query's outcome to the circuit breaker; no answer counts as a failure.
+     */
+    private void record(Boolean present) {
+        if (breaker == null) {
+            return;
+        }
+        if (present != null) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.model.ChunkResult;
+
+/**
+ * Callback hooks for a chunked processing run.
+ *
+ * Lets callers observe progress and stop the id scan early without
+ * changing how chunks are executed.
+ */
+public interface ChunkProgressListener {
+
+    /** Listener that never cancels and ignores progress. */
+    ChunkProgressListener NONE = new ChunkProgressListener() { };
+
+    /**
+     * Polled before each chunk is submitted; returning {@code true} stops the scan.
+     * Chunks that were already submitted still run to completion.
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+
+    /**
+     * Invoked once per chunk, on the thread that completed it.
+     *
+     * @param result the chunk outcome
+     */
+    default void onChunkCompleted(ChunkResult result) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.siemens.internship.service;
+
+import java.util.regex.Pattern;
+
+/**
+ * Single-pass, allocation-free check of the {@code @ValidEmail} address format.
+ *
+ * Accepts exactly the language of {@link #REFERENCE}: a non-empty local part of
+ * letters, digits and {@code ._%+-}, one {@code @}, and a domain of letters, digits,
+ * {@code .} and {@code -} whose last label is at least two ASCII letters, preceded by
+ * at least one character. Matching is ASCII-only, as with the regex.
+ */
+public final class EmailFormat {
+
+    /**
+     * Regex pattern for basic email format validation; the scanner's specification,
+     * kept for tests and benchmarks.
+     *
+     * Slightly stricter than the default Hibernate @Email pattern:
+     * - Allows alphanumeric characters, dots, underscores, percent, plus, and hyphens before '@'.
+     * - Allows domain labels with alphanumeric characters and hyphens.
+     * - Requires a top-level domain of at least two letters.
+     */
+    public static final Pattern REFERENCE = Pattern.compile(
+            "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,}$",
+            Pattern.CASE_INSENSITIVE);
+
+    private EmailFormat() {
+    }
+
+    /**
+     * Validate the format and locate the domain.
+     *
+     * @param value the candidate address, may be null
+     * @return the index of the first domain character (just after {@code @}), or -1 if malformed
+     */
+    public static int domainOffset(CharSequence value) {
+        if (value == null) {
+            return -1;
+        }
+        int length = value.length();
+        int at = -1;
+        int lastDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return -1;
+                }
+                at = i;
+            } else if (at < 0) {
+                if (!isLocalChar(c)) {
+                    return -1;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+            } else if (!isLetterOrDigit(c) && c != '-') {
+                return -1;
+            }
+        }
+        // Non-empty local part, something before the last dot, and a TLD of two or more letters
+        if (at <= 0 || lastDot <= at + 1 || length - lastDot - 1 < 2) {
+            return -1;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isLetter(value.charAt(i))) {
+                return -1;
+            }
+        }
+        return at + 1;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
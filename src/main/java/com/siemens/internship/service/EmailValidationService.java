@@ -0,0 +1,113 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.model.EmailValidationReport;
+import com.siemens.internship.model.EmailVerdict;
+import com.siemens.internship.model.EmailVerdict.Status;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Validates many email addresses at once, resolving each distinct domain only once.
+ *
+ * Every address gets the same format check as {@code @ValidEmail}; the well-formed ones
+ * are grouped by domain, and the distinct domains are resolved in parallel through the
+ * shared MX cache and lookup pool. The cost of a batch therefore follows the number of
+ * distinct domains rather than the number of addresses.
+ */
+@Service
+public class EmailValidationService {
+
+    private final MxRecordCache cache;
+    private final AsyncMxLookup lookup;
+    private final Duration batchTimeout;
+
+    /**
+     * @param cache  MX lookup cache shared with {@code @ValidEmail}
+     * @param lookup deadline-bounded asynchronous lookup
+     * @param props  email validation tunables
+     */
+    public EmailValidationService(MxRecordCache cache, AsyncMxLookup lookup, EmailValidationProperties props) {
+        this.cache = cache;
+        this.lookup = lookup;
+        this.batchTimeout = props.getLookup().getBatchTimeout();
+    }
+
+    /**
+     * Validate a batch of addresses.
+     *
+     * @param emails the addresses, in any order; duplicates are allowed
+     * @return one verdict per address, in submission order
+     */
+    public EmailValidationReport validate(List<String> emails) {
+        List<String> domains = new ArrayList<>(emails.size());
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String email : emails) {
+            String domain = ValidEmailValidator.domainOf(email);
+            String key = domain == null ? null : domain.toLowerCase(Locale.ROOT);
+            domains.add(key);
+            if (key != null) {
+                distinct.add(key);
+            }
+        }
+
+        Map<String, Boolean> answers = resolveAll(distinct);
+
+        List<EmailVerdict> results = new ArrayList<>(emails.size());
+        for (int i = 0; i < emails.size(); i++) {
+            String domain = domains.get(i);
+            Status status = domain == null ? Status.INVALID_FORMAT : verdict(answers.get(domain));
+            results.add(new EmailVerdict(emails.get(i), status));
+        }
+        return EmailValidationReport.of(results, distinct.size());
+    }
+
+    /**
+     * Resolve every domain once: cached answers directly, the rest in parallel. Each lookup
+     * waits for a batch slot of the shared lookup pool, which stays taken until the query
+     * finishes, so a large batch, or one behind slow domains, waits for slots instead of
+     * having its lookups shed. Batches hold at most {@code email.validation.lookup.batch-share}
+     * of the slots, leaving the rest to request validation. The whole call is bounded by
+     * {@code email.validation.lookup.batch-timeout}: domains without a slot or an answer by
+     * then are unknown.
+     *
+     * @param domains distinct, lower-case mail domains
+     * @return the answer per domain: true or false, or null if unknown
+     */
+    public Map<String, Boolean> resolveAll(Set<String> domains) {
+        long deadline = System.nanoTime() + batchTimeout.toNanos();
+        Map<String, Boolean> answers = new HashMap<>();
+        Map<String, CompletableFuture<Boolean>> pending = new HashMap<>();
+        try {
+            for (String domain : domains) {
+                Boolean cached = cache.getIfPresent(domain, lookup);
+                if (cached != null) {
+                    answers.put(domain, cached);
+                    continue;
+                }
+                pending.put(domain, lookup.lookupAsyncForBatch(domain, deadline)
+                        .whenComplete((present, ex) -> cache.put(domain, present)));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        pending.forEach((domain, answer) -> answers.put(domain, answer.join()));
+        return answers;
+    }
+
+    private static Status verdict(Boolean present) {
+        if (present == null) {
+            return Status.UNRESOLVED;
+        }
+        return present ? Status.VALID : Status.NO_MX;
+    }
+}
@@ -0,0 +1,43 @@
+package com.siemens.internship.service;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Per-request marker for email addresses accepted without a completed MX check.
+ *
+ * Set by {@link ValidEmailValidator} under the {@code ACCEPT_AND_FLAG} policy and read by
+ * the controller, which reports it in the {@value #HEADER} response header.
+ */
+public final class EmailVerification {
+
+    /** Response header carrying the verification outcome. */
+    public static final String HEADER = "X-Email-Verification";
+
+    /** Header value for addresses whose domain could not be checked in time. */
+    public static final String UNVERIFIED = "unverified";
+
+    private static final String ATTRIBUTE = EmailVerification.class.getName() + ".UNVERIFIED";
+
+    private EmailVerification() {
+    }
+
+    /**
+     * Mark the current request as carrying an unverified email; no-op outside a request.
+     */
+    public static void markUnverified() {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs != null) {
+            attrs.setAttribute(ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * @return true if an email in the current request was accepted without an MX answer
+     */
+    public static boolean isUnverified() {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        return attrs != null
+                && Boolean.TRUE.equals(attrs.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -0,0 +1,127 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.model.EmailVerificationStatus;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.repository.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Background MX verification of items stored with a {@link EmailVerificationStatus#PENDING} email.
+ *
+ * Every {@code email.validation.deferred.poll-interval} the pending items are scanned in id
+ * order, a page at a time; each page is grouped by domain, its distinct domains are resolved
+ * in parallel through {@link EmailValidationService}, and each domain's items are moved to
+ * {@code VERIFIED} or {@code UNDELIVERABLE} with one UPDATE. A page's updates commit together,
+ * in a transaction opened only after its lookups finished. Items whose domain stays unresolved
+ * remain pending for the next run.
+ */
+@Slf4j
+@Service
+public class EmailVerificationPipeline implements SchedulingConfigurer {
+
+    private final ItemRepository repo;
+    private final EmailValidationService validation;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final ItemChangeTracker changes;
+    private final TransactionOperations transactions;
+
+    /**
+     * @param repo         item persistence
+     * @param validation   resolves distinct domains through the shared MX cache and lookup pool
+     * @param props        email validation tunables
+     * @param changes      table-wide change counter, advanced after each page that settled items
+     * @param transactions transaction boundary of each page's updates
+     */
+    public EmailVerificationPipeline(ItemRepository repo, EmailValidationService validation,
+                                     EmailValidationProperties props, ItemChangeTracker changes,
+                                     TransactionOperations transactions) {
+        this.repo = repo;
+        this.validation = validation;
+        this.changes = changes;
+        this.transactions = transactions;
+        this.pollInterval = props.getDeferred().getPollInterval();
+        this.batchSize = props.getDeferred().getBatchSize();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::verifyPending, pollInterval);
+    }
+
+    /**
+     * Run once over all pending items.
+     *
+     * @return number of items moved out of the pending state
+     */
+    public int verifyPending() {
+        int settled = 0;
+        long afterId = 0;
+        while (true) {
+            List<Item> page = repo.findByEmailVerificationAndIdGreaterThanOrderByIdAsc(
+                    EmailVerificationStatus.PENDING, afterId, PageRequest.of(0, batchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            settled += verify(page);
+            if (page.size() < batchSize) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+        if (settled > 0) {
+            log.debug("Settled email verification of {} items", settled);
+        }
+        return settled;
+    }
+
+    /**
+     * Verify one page of pending items, one lookup and one UPDATE per distinct domain.
+     */
+    private int verify(List<Item> page) {
+        Map<String, List<Item>> byDomain = new LinkedHashMap<>();
+        for (Item item : page) {
+            String domain = ValidEmailValidator.domainOf(item.getEmail());
+            byDomain.computeIfAbsent(domain == null ? null : domain.toLowerCase(Locale.ROOT),
+                    key -> new ArrayList<>()).add(item);
+        }
+        Set<String> domains = new HashSet<>(byDomain.keySet());
+        domains.remove(null);
+        Map<String, Boolean> answers = validation.resolveAll(domains);
+
+        int settled = transactions.execute(status -> {
+            int updated = 0;
+            for (Map.Entry<String, List<Item>> group : byDomain.entrySet()) {
+                // A malformed address cannot be delivered to
+                Boolean present = group.getKey() == null ? Boolean.FALSE : answers.get(group.getKey());
+                if (present == null) {
+                    continue;
+                }
+                List<Long> ids = group.getValue().stream().map(Item::getId).toList();
+                List<String> emails = group.getValue().stream().map(Item::getEmail).toList();
+                updated += repo.transitionEmailVerification(ids, emails, EmailVerificationStatus.PENDING,
+                        present ? EmailVerificationStatus.VERIFIED : EmailVerificationStatus.UNDELIVERABLE);
+            }
+            return updated;
+        });
+        if (settled > 0) {
+            changes.changed();   // the page's updates are committed by now
+        }
+        return settled;
+    }
+}
@@ -0,0 +1,60 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.model.ItemChangeCounter;
+import com.siemens.internship.repository.ItemChangeCounterRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads and advances the table-wide item change counter, each advance in its own transaction.
+ *
+ * The counter row is created once at startup, before the application serves requests, so an
+ * advance is a single in-place UPDATE that concurrent writers cannot race on.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ItemChangeCounterService implements SmartInitializingSingleton {
+
+    private final ItemChangeCounterRepository repo;
+
+    /**
+     * Constructor for dependency injection.
+     * @param repo the repository holding the counter row
+     */
+    public ItemChangeCounterService(ItemChangeCounterRepository repo) {
+        this.repo = repo;
+    }
+
+    /**
+     * @return the number of committed item writes so far (0 before the first one)
+     */
+    public long current() {
+        return repo.findChanges(ItemChangeCounter.ID).orElse(0L);
+    }
+
+    /**
+     * Create the counter row at 0 unless it exists; called by the container once all
+     * singletons are created, before the web server starts.
+     */
+    @Override
+    @Transactional
+    public void afterSingletonsInstantiated() {
+        if (repo.findChanges(ItemChangeCounter.ID).isEmpty()) {
+            repo.save(new ItemChangeCounter(ItemChangeCounter.ID, 0L));
+        }
+    }
+
+    /**
+     * Advance the counter by one.
+     *
+     * @throws IllegalStateException if the counter row is missing
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void increment() {
+        if (repo.increment(ItemChangeCounter.ID) == 0) {
+            throw new IllegalStateException("Item change counter row is missing");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.siemens.internship.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Advances the item change counter once per transaction that wrote items, after it commits.
+ *
+ * Counting after the commit means a reader can see new rows with the old counter, and so
+ * re-download once more, but never the new counter with old rows, which would let a
+ * conditional GET answer 304 for a changed collection.
+ */
+@Slf4j
+@Component
+public class ItemChangeTracker {
+
+    private final ItemChangeCounterService counter;
+
+    /**
+     * @param counter persistence of the counter, advanced in its own transaction
+     */
+    public ItemChangeTracker(ItemChangeCounterService counter) {
+        this.counter = counter;
+    }
+
+    /**
+     * @return the number of committed item writes so far
+     */
+    public long current() {
+        return counter.current();
+    }
+
+    /**
+     * Record that items were written: after the current transaction commits, or now if
+     * there is none (the write has then already committed).
+     */
+    public void changed() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            advance();
+            return;
+        }
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(AdvanceAfterCommit.class::isInstance);
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(new AdvanceAfterCommit());
+        }
+    }
+
+    /** The write is already committed, so a failure must not surface to its caller. */
+    private void advance() {
+        try {
+            counter.increment();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to advance the item change counter; collection ETags lag until the next write", ex);
+        }
+    }
+
+    /** Advances the counter once the transaction it is registered with has committed. */
+    private final class AdvanceAfterCommit implements TransactionSynchronization {
+        @Override
+        public void afterCommit() {
+            advance();
+        }
+    }
+}
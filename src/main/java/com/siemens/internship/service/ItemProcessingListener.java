@@ -0,0 +1,28 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.model.Item;
+
+/**
+ * Per-item callbacks of a processing run.
+ *
+ * Invoked from processing threads as soon as each item's transaction has
+ * committed or failed; implementations must be thread-safe.
+ */
+public interface ItemProcessingListener {
+
+    /** Listener that ignores every event. */
+    ItemProcessingListener NONE = new ItemProcessingListener() { };
+
+    /**
+     * @param item the processed and saved item
+     */
+    default void onProcessed(Item item) {
+    }
+
+    /**
+     * @param id    id of the item that could not be processed
+     * @param cause the failure
+     */
+    default void onFailed(Long id, Throwable cause) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.config.AsyncConfig;
+import com.siemens.internship.config.ProcessingProperties;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.repository.ItemRepository;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Executes individual processing units.
+ *
+ * Kept as a separate bean so calls from {@link ItemService} go through the
+ * Spring proxy; otherwise {@code @Async} and {@code @Transactional} would be
+ * bypassed by self-invocation and every item would run on the caller thread.
+ */
+@Service
+public class ItemProcessor {
+
+    private final ItemRepository repo;
+    private final ProcessingProperties props;
+    private final ItemChangeTracker changes;
+
+    /**
+     * Constructor for dependency injection.
+     * @param repo    the repository to use for Item persistence
+     * @param props   processing tunables (status transition policy)
+     * @param changes table-wide change counter, advanced after each committed unit
+     */
+    public ItemProcessor(ItemRepository repo, ProcessingProperties props, ItemChangeTracker changes) {
+        this.repo = repo;
+        this.props = props;
+        this.changes = changes;
+    }
+
+    /**
+     * Process and save a single Item asynchronously in a separate transaction.
+     * @param item the Item to process
+     * @return a CompletableFuture completing with the processed Item,
+     *         or exceptionally if processing fails
+     */
+    @Async(AsyncConfig.ITEM_PROCESSING_EXECUTOR)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public CompletableFuture<Item> processAndSave(Item item) {
+        try {
+            item.setStatus(props.getTargetStatus());
+            Item saved = repo.save(item);
+            changes.changed();
+            return CompletableFuture.completedFuture(saved);
+        } catch (Exception ex) {
+            CompletableFuture<Item> failed = new CompletableFuture<>();
+            failed.completeExceptionally(ex);
+            return failed;
+        }
+    }
+
+    /**
+     * Move a chunk of eligible items to the target status with one set-based UPDATE
+     * in a separate transaction. Items no longer in an eligible status are skipped.
+     *
+     * Exceptions are propagated so the transaction rolls back; the async proxy then
+     * completes the returned future exceptionally.
+     * @param ids the IDs belonging to the chunk
+     * @return a CompletableFuture completing with the number of rows updated
+     */
+    @Async(AsyncConfig.ITEM_PROCESSING_EXECUTOR)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public CompletableFuture<Integer> processChunk(List<Long> ids) {
+        int updated = repo.transitionStatus(ids, props.getEligibleStatuses(), props.getTargetStatus());
+        if (updated > 0) {
+            changes.changed();
+        }
+        return CompletableFuture.completedFuture(updated);
+    }
+}
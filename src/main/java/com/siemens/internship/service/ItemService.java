@@ -1,17 +1,41 @@
 package com.siemens.internship.service;
 
+import com.siemens.internship.config.ProcessingProperties;
+import com.siemens.internship.model.ChunkResult;
+import com.siemens.internship.model.ChunkedProcessingReport;
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemField;
+import com.siemens.internship.model.ItemFilter;
+import com.siemens.internship.model.ItemPage;
+import com.siemens.internship.model.ProcessingSummary;
 import com.siemens.internship.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.*;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Service layer handling Item business operations, including CRUD,
@@ -23,13 +47,26 @@ import java.util.stream.Collectors;
 public class ItemService {
 
     private final ItemRepository repo;
+    private final ItemProcessor processor;
+    private final ProcessingProperties props;
+    private final EntityManager entityManager;
+    private final ItemChangeTracker changes;
 
     /**
      * Constructor for dependency injection.
-     * @param repo the repository to use for Item persistence
+     * @param repo          the repository to use for Item persistence
+     * @param processor     the proxied bean executing processing units asynchronously
+     * @param props         processing tunables (chunk size, ...)
+     * @param entityManager shared entity manager, used to detach streamed rows
+     * @param changes       table-wide change counter, advanced on every write
      */
-    public ItemService(ItemRepository repo) {
+    public ItemService(ItemRepository repo, ItemProcessor processor, ProcessingProperties props,
+                       EntityManager entityManager, ItemChangeTracker changes) {
         this.repo = repo;
+        this.processor = processor;
+        this.props = props;
+        this.entityManager = entityManager;
+        this.changes = changes;
     }
 
     /**
@@ -40,6 +77,117 @@ public class ItemService {
         return repo.findAll();
     }
 
+    /**
+     * Retrieve the items matching a filter, seeking on the status or email domain index.
+     * @param filter the filter to apply; {@link ItemFilter#NONE} returns all items
+     * @return matching Items in id order
+     */
+    public List<Item> findAll(ItemFilter filter) {
+        return filter.isEmpty() ? repo.findAll() : repo.findAllFiltered(filter);
+    }
+
+    /**
+     * Hand every item to {@code action} in id order while the rows are read from a database cursor.
+     * @param action receives each item; exceptions it throws abort the scan
+     * @return the number of items handed over
+     * @see #streamAll(ItemFilter, Consumer)
+     */
+    public long streamAll(Consumer<? super Item> action) {
+        return streamAll(ItemFilter.NONE, action);
+    }
+
+    /**
+     * Hand every item matching a filter to {@code action} in id order while the rows are read
+     * from a database cursor, seeking on the status or email domain index as {@link #findAll(ItemFilter)} does.
+     * Each item is detached before it is handed over, so the persistence context stays empty and
+     * memory use does not grow with the table. Runs in one read-only transaction.
+     * @param filter the filter to apply; {@link ItemFilter#NONE} streams all items
+     * @param action receives each item; exceptions it throws abort the scan
+     * @return the number of items handed over
+     */
+    public long streamAll(ItemFilter filter, Consumer<? super Item> action) {
+        long count = 0;
+        try (Stream<Item> items = filter.isEmpty() ? repo.streamAllByOrderByIdAsc() : repo.streamFiltered(filter)) {
+            Iterator<Item> it = items.iterator();
+            while (it.hasNext()) {
+                Item item = it.next();
+                entityManager.detach(item);
+                action.accept(item);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Retrieve one keyset page of the items matching a filter, in id order.
+     * Fetches one row beyond {@code limit} to learn whether another page follows.
+     * @param filter  the filter to apply
+     * @param afterId exclusive lower bound (0 for the first page)
+     * @param limit   maximum number of items in the page
+     * @return the page and the id to continue after, if any
+     */
+    public ItemPage<Item> findPage(ItemFilter filter, long afterId, int limit) {
+        List<Item> rows = filter.isEmpty()
+                ? repo.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, limit + 1))
+                : repo.findFilteredAfter(filter, afterId, limit + 1);
+        return toPage(rows, limit, Item::getId);
+    }
+
+    /**
+     * Retrieve one keyset page of sparse fieldsets in id order; see {@link #findPage(ItemFilter, long, int)}.
+     * @param filter  the filter to apply
+     * @param afterId exclusive lower bound (0 for the first page)
+     * @param limit   maximum number of items in the page
+     * @param fields  the fields to select; must include {@link ItemField#ID}
+     * @return the page and the id to continue after, if any
+     */
+    public ItemPage<Map<String, Object>> findPage(ItemFilter filter, long afterId, int limit,
+                                                  Set<ItemField> fields) {
+        List<Map<String, Object>> rows = repo.findProjectedAfter(fields, filter, afterId, limit + 1);
+        return toPage(rows, limit, row -> (Long) row.get(ItemField.ID.getProperty()));
+    }
+
+    /** Trim the look-ahead row and continue after the last row kept, if it was there. */
+    private static <T> ItemPage<T> toPage(List<T> rows, int limit, Function<T, Long> id) {
+        if (rows.size() <= limit) {
+            return new ItemPage<>(rows, null);
+        }
+        List<T> page = rows.subList(0, limit);
+        return new ItemPage<>(page, id.apply(page.get(limit - 1)));
+    }
+
+    /**
+     * Retrieve the given fields of the items matching a filter, selecting only those columns.
+     * @param filter the filter to apply
+     * @param fields the fields to select
+     * @return one map per item, keyed by property name
+     */
+    public List<Map<String, Object>> findAll(ItemFilter filter, Set<ItemField> fields) {
+        return repo.findAllProjected(fields, filter);
+    }
+
+    /**
+     * Hand the given fields of every item matching a filter to {@code action} in id order while
+     * the rows are read from a database cursor. Only those columns are selected, and no entities
+     * are loaded. Runs in one read-only transaction.
+     * @param filter the filter to apply
+     * @param fields the fields to select
+     * @param action receives each item's values, keyed by property name; exceptions it throws abort the scan
+     * @return the number of items handed over
+     */
+    public long streamAll(ItemFilter filter, Set<ItemField> fields, Consumer<? super Map<String, Object>> action) {
+        long count = 0;
+        try (Stream<Map<String, Object>> rows = repo.streamProjected(fields, filter)) {
+            Iterator<Map<String, Object>> it = rows.iterator();
+            while (it.hasNext()) {
+                action.accept(it.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Check if an item exists by its identifier.
      * @param id the Item ID to check
@@ -49,6 +197,32 @@ public class ItemService {
         return repo.existsById(id);
     }
 
+    /**
+     * Count items eligible for processing after a given id watermark.
+     * @param afterId exclusive lower bound (0 counts all eligible items)
+     * @return the number of eligible Items with a greater id
+     */
+    public long countEligibleAfter(long afterId) {
+        return repo.countByStatusInAndIdGreaterThan(props.getEligibleStatuses(), afterId);
+    }
+
+    /**
+     * Read the version of an Item without loading it.
+     * @param id the Item ID
+     * @return the current version, or empty if not found
+     */
+    public java.util.Optional<Long> findVersionById(Long id) {
+        return repo.findVersionById(id);
+    }
+
+    /**
+     * Number of committed item writes so far; changes whenever any item does.
+     * @return the table-wide change counter
+     */
+    public long changeCount() {
+        return changes.current();
+    }
+
     /**
      * Find an Item by its identifier.
      * @param id the Item ID to find
@@ -58,16 +232,30 @@ public class ItemService {
         return repo.findById(id);
     }
 
+    /**
+     * Find the given fields of an Item, selecting only those columns.
+     * @param id     the Item ID to find
+     * @param fields the fields to select
+     * @return an Optional containing the selected values if found, or empty if not
+     */
+    public java.util.Optional<Map<String, Object>> findById(Long id, Set<ItemField> fields) {
+        return repo.findProjectedById(id, fields);
+    }
+
     /**
      * Save or update an Item within a new transaction.
+     * An update is checked against the version the item was read at.
      * @param item the Item to save
      * @return the saved Item instance
      * @throws DataIntegrityViolationException if a database constraint is violated
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the item was modified since it was read
      */
     @Transactional
     public Item save(Item item) {
         try {
-            return repo.save(item);
+            Item saved = repo.save(item);
+            changes.changed();
+            return saved;
         } catch (DataIntegrityViolationException ex) {
             throw ex;
         }
@@ -80,46 +268,48 @@ public class ItemService {
     @Transactional
     public void deleteById(Long id) {
         repo.deleteById(id);
+        changes.changed();
     }
 
     /**
-     * Process and save a single Item asynchronously in a separate transaction.
-     * @param item the Item to process
-     * @return a CompletableFuture completing with the processed Item,
-     *         or exceptionally if processing fails
+     * Delete an Item only if it is still at one of the given versions.
+     * @param id       the Item ID to delete
+     * @param versions versions the caller last saw
+     * @return true if the item was deleted, false if it is gone or was modified since
      */
-    @Async("applicationTaskExecutor")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public CompletableFuture<Item> processAndSave(Item item) {
-        try {
-            item.setStatus("PROCESSED");
-            return CompletableFuture.completedFuture(repo.save(item));
-        } catch (Exception ex) {
-            CompletableFuture<Item> failed = new CompletableFuture<>();
-            failed.completeExceptionally(ex);
-            return failed;
+    @Transactional
+    public boolean deleteByIdAndVersion(Long id, Collection<Long> versions) {
+        if (versions.isEmpty() || repo.deleteByIdAndVersionIn(id, versions) == 0) {
+            return false;
         }
+        changes.changed();
+        return true;
     }
 
     /**
-     * Process all Items in parallel and collect only successful results.
+     * Process all eligible Items in parallel and collect only successful results.
+     *
+     * Only items in one of {@code items.processing.eligible-statuses} are loaded,
+     * so the cost of a run follows the backlog rather than the table size.
+     * Each item is handed to {@link ItemProcessor#processAndSave}, which runs on the
+     * dedicated processing executor in its own transaction.
      * Any failures are logged and excluded from the returned list.
      * @return a CompletableFuture containing a List of successfully processed Items
      */
     public CompletableFuture<List<Item>> processItemsAsync() {
-        List<Item> allItems = repo.findAll();
+        List<Item> allItems = repo.findByStatusIn(props.getEligibleStatuses());
 
         List<CompletableFuture<Item>> tasks = allItems.stream()
-                .map(this::processAndSave)
+                .map(this::submitItem)
                 .collect(Collectors.toList());
 
         return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
                 .handle((ignored, aggregateEx) ->
-                        tasks.stream()
-                                .map(f -> f.handle((it, ex) -> {
+                        IntStream.range(0, tasks.size())
+                                .mapToObj(i -> tasks.get(i).handle((it, ex) -> {
                                     if (ex != null) {
                                         log.warn("Failed processing item id={}",
-                                                it != null ? it.getId() : "?", ex);
+                                                allItems.get(i).getId(), ex);
                                         return null;
                                     }
                                     return it;
@@ -129,4 +319,174 @@ public class ItemService {
                                 .collect(Collectors.toList())
                 );
     }
+
+    /**
+     * Process all eligible Items and report only counts, duration, and failed ids.
+     *
+     * Items are loaded page by page outside of any transaction, so nothing accumulates in a
+     * persistence context, and at most one page of items is in flight on the executor at a time.
+     * Processed entities are dropped as soon as they are saved, so memory use stays flat
+     * regardless of table size. The scan runs on the calling thread;
+     * {@link ProcessingJobService#processInBackground} runs it on the job executor instead.
+     * @return a CompletableFuture containing the run summary
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<ProcessingSummary> processItemsSummaryAsync() {
+        return processItemsSummaryAsync(ItemProcessingListener.NONE);
+    }
+
+    /**
+     * Summary-only processing that also reports each item to a listener the moment it
+     * commits or fails, e.g. to stream results to a client.
+     * @param listener per-item callbacks, invoked from processing threads
+     * @return a CompletableFuture containing the run summary
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<ProcessingSummary> processItemsSummaryAsync(ItemProcessingListener listener) {
+        long started = System.nanoTime();
+        int window = props.getChunkSize();
+        Semaphore inFlight = new Semaphore(window);
+        LongAdder processed = new LongAdder();
+        Queue<Long> failedIds = new ConcurrentLinkedQueue<>();
+        CompletableFuture<ProcessingSummary> result = new CompletableFuture<>();
+
+        // One extra count for the scan itself, released once every item was submitted
+        AtomicLong pending = new AtomicLong(1);
+        Runnable release = () -> {
+            if (pending.decrementAndGet() == 0) {
+                List<Long> failed = failedIds.stream().sorted().collect(Collectors.toList());
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                result.complete(new ProcessingSummary(processed.sum(), failed.size(), durationMs, failed));
+            }
+        };
+
+        try {
+            Long afterId = 0L;
+            List<Item> page;
+            while (!(page = repo.findByStatusInAndIdGreaterThanOrderByIdAsc(
+                    props.getEligibleStatuses(), afterId, PageRequest.of(0, window))).isEmpty()) {
+                for (Item item : page) {
+                    inFlight.acquire();
+                    pending.incrementAndGet();
+                    Long id = item.getId();
+                    submitItem(item).whenComplete((saved, ex) -> {
+                        try {
+                            if (ex != null) {
+                                Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+                                        ? ex.getCause() : ex;
+                                log.warn("Failed processing item id={}", id, cause);
+                                failedIds.add(id);
+                                listener.onFailed(id, cause);
+                            } else {
+                                processed.increment();
+                                listener.onProcessed(saved);
+                            }
+                        } finally {
+                            inFlight.release();
+                            release.run();
+                        }
+                    });
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(ex);
+        } catch (RuntimeException ex) {
+            result.completeExceptionally(ex);
+        }
+        release.run();
+        return result;
+    }
+
+    /**
+     * Hand one item to the processor; synchronous failures become a failed future.
+     */
+    private CompletableFuture<Item> submitItem(Item item) {
+        try {
+            return processor.processAndSave(item);
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * Process all eligible Items in chunks of IDs, each chunk being one bulk UPDATE in its own transaction.
+     *
+     * IDs of eligible items are read with a keyset scan, so neither the full table nor every ID is held
+     * in memory at once; chunks are submitted to the processing executor as they are read.
+     * The scan runs outside of any transaction, so each page read holds a connection only
+     * for that read, not while the scan waits for executor capacity.
+     * A failed chunk is rolled back and reported without affecting the others.
+     * @param chunkSize number of IDs per chunk, or {@code null} for the configured default
+     * @return a CompletableFuture containing the per-chunk report
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<ChunkedProcessingReport> processItemsInChunksAsync(Integer chunkSize) {
+        return processItemsInChunksAsync(chunkSize, 0L, ChunkProgressListener.NONE);
+    }
+
+    /**
+     * Chunked processing with progress reporting, cooperative cancellation, and resume.
+     *
+     * The listener is polled before each chunk is submitted and notified as each chunk
+     * completes. Note that the id scan runs on the calling thread.
+     * @param chunkSize    number of IDs per chunk, or {@code null} for the configured default
+     * @param startAfterId id watermark to resume from (0 for a full run)
+     * @param listener     progress and cancellation hooks
+     * @return a CompletableFuture containing the report of all submitted chunks
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<ChunkedProcessingReport> processItemsInChunksAsync(
+            Integer chunkSize, long startAfterId, ChunkProgressListener listener) {
+        int size = chunkSize != null ? chunkSize : props.getChunkSize();
+        List<CompletableFuture<ChunkResult>> chunks = new ArrayList<>();
+
+        Long afterId = startAfterId;
+        List<Long> ids;
+        while (!listener.isCancelled()
+                && !(ids = repo.findIdsByStatusAfter(
+                        props.getEligibleStatuses(), afterId, PageRequest.of(0, size))).isEmpty()) {
+            chunks.add(submitChunk(chunks.size(), ids, listener));
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> ChunkedProcessingReport.of(size,
+                        chunks.stream()
+                                .map(CompletableFuture::join)
+                                .collect(Collectors.toList())));
+    }
+
+    /**
+     * Hand one chunk to the processor and map its outcome to a {@link ChunkResult}.
+     * The returned future never completes exceptionally.
+     */
+    private CompletableFuture<ChunkResult> submitChunk(
+            int index, List<Long> ids, ChunkProgressListener listener) {
+        Long firstId = ids.get(0);
+        Long lastId = ids.get(ids.size() - 1);
+
+        CompletableFuture<Integer> task;
+        try {
+            task = processor.processChunk(ids);
+        } catch (RuntimeException ex) {
+            // e.g. the executor rejected the task
+            task = CompletableFuture.failedFuture(ex);
+        }
+
+        return task.handle((updated, ex) -> {
+            ChunkResult result;
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+                        ? ex.getCause() : ex;
+                log.warn("Failed processing chunk {} (ids {}..{})", index, firstId, lastId, cause);
+                result = ChunkResult.failed(index, firstId, lastId, ids.size(), cause);
+            } else {
+                result = ChunkResult.succeeded(index, firstId, lastId, ids.size(), updated);
+            }
+            listener.onChunkCompleted(result);
+            return result;
+        });
+    }
 }
@@ -0,0 +1,181 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker around live MX lookups.
+ *
+ * Outcomes of the last {@code window-size} lookups are kept in a ring; once at least
+ * {@code minimum-calls} are recorded and the share of unanswered ones reaches
+ * {@code failure-rate-threshold}, the breaker opens and lookups are refused without
+ * touching DNS. After {@code open-duration} it lets {@code half-open-probes} lookups
+ * through: any failure reopens it, all of them answering closes it again.
+ *
+ * State, opens and refused lookups are published as {@code email.mx.breaker.*} meters.
+ */
+@Slf4j
+public class MxCircuitBreaker implements MeterBinder {
+
+    private static final String PREFIX = "email.mx.breaker.";
+
+    /**
+     * Breaker state; the ordinal is published as the {@code email.mx.breaker.state} gauge.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+
+    // Guarded by this
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failures;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    /**
+     * @param settings window, threshold and timing settings
+     * @param clock    monotonic time source in nanoseconds
+     */
+    public MxCircuitBreaker(EmailValidationProperties.Breaker settings, LongSupplier clock) {
+        this.window = new boolean[Math.max(1, settings.getWindowSize())];
+        this.minimumCalls = Math.max(1, Math.min(settings.getMinimumCalls(), window.length));
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.openNanos = settings.getOpenDuration().toNanos();
+        this.halfOpenProbes = Math.max(1, settings.getHalfOpenProbes());
+        this.clock = clock;
+    }
+
+    /**
+     * Ask to start a lookup; every granted permission must be followed by
+     * {@link #onSuccess()} or {@link #onFailure()}.
+     *
+     * @return true if the lookup may run, false if it is refused while the breaker is open
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openNanos) {
+            transition(State.HALF_OPEN);
+            probesStarted = 0;
+            probesSucceeded = 0;
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && probesStarted < halfOpenProbes) {
+            probesStarted++;
+            return true;
+        }
+        shortCircuited.increment();
+        return false;
+    }
+
+    /**
+     * Record a lookup that got an answer from DNS.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++probesSucceeded >= halfOpenProbes) {
+                transition(State.CLOSED);
+                resetWindow();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Record a lookup that failed or gave no answer.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                open();
+            }
+        }
+    }
+
+    /** @return the current state, without moving an expired open breaker to half-open */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /** @return number of times the breaker opened */
+    public long getOpenedCount() {
+        return opened.sum();
+    }
+
+    /** @return number of lookups refused without querying DNS */
+    public long getShortCircuitedCount() {
+        return shortCircuited.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(PREFIX + "state", this, breaker -> breaker.getState().ordinal())
+                .description("MX lookup circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "opened", this, MxCircuitBreaker::getOpenedCount)
+                .description("Times the MX lookup circuit breaker opened")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "short.circuited", this, MxCircuitBreaker::getShortCircuitedCount)
+                .description("MX lookups refused while the circuit breaker was open")
+                .register(registry);
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        transition(State.OPEN);
+        openedAt = clock.getAsLong();
+        opened.increment();
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+
+    private void transition(State target) {
+        if (state != target) {
+            log.info("MX lookup circuit breaker {} -> {}", state, target);
+            state = target;
+        }
+    }
+}
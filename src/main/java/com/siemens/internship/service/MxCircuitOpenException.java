@@ -0,0 +1,14 @@
+package com.siemens.internship.service;
+
+/**
+ * Thrown instead of querying DNS while the {@link MxCircuitBreaker} is open.
+ */
+public class MxCircuitOpenException extends RuntimeException {
+
+    /**
+     * @param domain the domain whose lookup was refused
+     */
+    public MxCircuitOpenException(String domain) {
+        super("MX lookup for " + domain + " refused: circuit breaker open");
+    }
+}
@@ -0,0 +1,374 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.service.dns.MxResolver;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, in-process cache of MX lookup results keyed by domain.
+ *
+ * Positive and negative results expire after separate TTLs; beyond {@code max-size}
+ * the least recently used domain is evicted. Lookups for a missing domain run outside
+ * the cache lock, so a slow DNS query never blocks hits on other domains.
+ *
+ * Hot domains are refreshed ahead of expiry: once an entry has been read at least
+ * {@code refresh-min-hits} times and is within {@code refresh-ahead} of expiring, the
+ * next read triggers a background lookup and keeps serving the cached answer. While that
+ * refresh is in flight the answer stays servable for up to {@code refresh-ahead} past
+ * expiry, so requests for popular domains do not wait on DNS.
+ *
+ * Hit, miss, eviction, refresh and stale-hit counts, and the age of served answers,
+ * are published as {@code email.mx.cache.*} meters.
+ *
+ * Domains are matched case-insensitively in place, so a validator can look up the domain
+ * part of an address by its offset without extracting or lower-casing it; a hit allocates
+ * nothing.
+ */
+public class MxRecordCache implements MeterBinder {
+
+    private static final String PREFIX = "email.mx.cache.";
+
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final long refreshAheadNanos;
+    private final int refreshMinHits;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Executor refreshExecutor;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private volatile Timer staleness;
+
+    private final Map<Key, Entry> entries;
+
+    /** Reusable lookup key over the caller's text; guarded by the {@code entries} lock. */
+    private final Key probe = new Key();
+
+    /**
+     * Cache without refresh-ahead.
+     *
+     * @param settings TTLs and size bound
+     */
+    public MxRecordCache(EmailValidationProperties.Cache settings) {
+        this(settings, System::nanoTime, null);
+    }
+
+    /**
+     * @param settings        TTLs, size bound and refresh-ahead settings
+     * @param clock           monotonic time source in nanoseconds
+     * @param refreshExecutor runs background refreshes; null disables refresh-ahead
+     */
+    public MxRecordCache(EmailValidationProperties.Cache settings, LongSupplier clock, Executor refreshExecutor) {
+        this.ttlNanos = settings.getTtl().toNanos();
+        this.negativeTtlNanos = settings.getNegativeTtl().toNanos();
+        this.refreshAheadNanos = refreshExecutor == null ? 0 : settings.getRefreshAhead().toNanos();
+        this.refreshMinHits = settings.getRefreshMinHits();
+        this.maxSize = settings.getMaxSize();
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > MxRecordCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the cached result for a domain, loading and caching it on a miss.
+     *
+     * @param domain the mail domain (case-insensitive)
+     * @param lookup performs the live lookup, and refreshes hot entries; returns {@code null}
+     *               when the outcome is unknown (e.g. a DNS timeout), which is passed through but not cached
+     * @return true if the domain has MX records, false if it has none, null if unknown
+     */
+    public Boolean resolve(String domain, MxResolver lookup) {
+        return resolve(domain, 0, lookup);
+    }
+
+    /**
+     * {@link #resolve(String, MxResolver)} for the domain starting at {@code domainOffset} of
+     * {@code text}, typically an email address; only a miss extracts the domain.
+     *
+     * @param text         text ending with the mail domain (case-insensitive)
+     * @param domainOffset index of the domain's first character in {@code text}
+     * @param lookup       as for {@link #resolve(String, MxResolver)}
+     * @return true if the domain has MX records, false if it has none, null if unknown
+     */
+    public Boolean resolve(String text, int domainOffset, MxResolver lookup) {
+        Boolean cached = getIfPresent(text, domainOffset, lookup);
+        if (cached != null) {
+            return cached;
+        }
+        String domain = text.substring(domainOffset).toLowerCase(Locale.ROOT);
+        Boolean present = lookup.hasMxRecord(domain);
+        put(domain, present);
+        return present;
+    }
+
+    /**
+     * Return the cached result for a domain without loading it; counts as a hit or a miss.
+     *
+     * @param domain    the mail domain (case-insensitive)
+     * @param refresher refreshes the entry in the background if it is hot and about to expire;
+     *                  null to never refresh
+     * @return the cached result, or null if the domain is not cached or has expired
+     */
+    public Boolean getIfPresent(String domain, MxResolver refresher) {
+        return getIfPresent(domain, 0, refresher);
+    }
+
+    /**
+     * {@link #getIfPresent(String, MxResolver)} for the domain starting at {@code domainOffset} of {@code text}.
+     *
+     * @param text         text ending with the mail domain (case-insensitive)
+     * @param domainOffset index of the domain's first character in {@code text}
+     * @param refresher    as for {@link #getIfPresent(String, MxResolver)}
+     * @return the cached result, or null if the domain is not cached or has expired
+     */
+    public Boolean getIfPresent(String text, int domainOffset, MxResolver refresher) {
+        long now = clock.getAsLong();
+        Boolean present;
+        long age;
+        boolean refresh = false;
+        synchronized (entries) {
+            Key key = probe.set(text, domainOffset);
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                present = null;
+                age = 0;
+            } else if (now - entry.expiresAt < 0 || (entry.refreshing && now - entry.expiresAt < refreshAheadNanos)) {
+                if (now - entry.expiresAt >= 0) {
+                    staleHits.increment();
+                }
+                entry.hits++;
+                if (refresher != null && refreshAheadNanos > 0 && !entry.refreshing
+                        && entry.hits >= refreshMinHits && entry.expiresAt - now <= refreshAheadNanos) {
+                    entry.refreshing = true;
+                    refresh = true;
+                }
+                present = entry.present;
+                age = now - entry.loadedAt;
+            } else {
+                entries.remove(key);
+                evictions.increment();
+                present = null;
+                age = 0;
+            }
+            probe.set(null, 0);
+        }
+
+        if (present == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        Timer timer = staleness;
+        if (timer != null) {
+            timer.record(age, TimeUnit.NANOSECONDS);
+        }
+        if (refresh) {
+            refresh(text.substring(domainOffset).toLowerCase(Locale.ROOT), refresher);
+        }
+        return present;
+    }
+
+    /**
+     * Cache a lookup result; unknown outcomes are ignored.
+     *
+     * @param domain  the mail domain (case-insensitive)
+     * @param present the lookup result, or null if unknown
+     */
+    public void put(String domain, Boolean present) {
+        if (present == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        Entry entry = new Entry(present, now, now + (present ? ttlNanos : negativeTtlNanos));
+        synchronized (entries) {
+            entries.put(new Key().set(domain.toLowerCase(Locale.ROOT), 0), entry);
+        }
+    }
+
+    /** @return number of domains currently cached, including not yet purged expired ones */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** @return number of lookups answered from the cache */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /** @return number of lookups that required a live query */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /** @return number of entries dropped for size or expiry */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /** @return number of hot entries replaced by a background refresh */
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    /** @return number of background refreshes that gave no answer or could not be started */
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    /** @return number of hits served past expiry while a refresh was in flight */
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(PREFIX + "hits", this, MxRecordCache::getHitCount)
+                .description("MX lookups answered from the cache")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "misses", this, MxRecordCache::getMissCount)
+                .description("MX lookups that required a DNS query")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "evictions", this, MxRecordCache::getEvictionCount)
+                .description("Cached domains dropped for size or expiry")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "refreshes", this, MxRecordCache::getRefreshCount)
+                .description("Hot domains refreshed in the background before expiry")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "refresh.failures", this, MxRecordCache::getRefreshFailureCount)
+                .description("Background refreshes without an answer")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "stale.hits", this, MxRecordCache::getStaleHitCount)
+                .description("Answers served past expiry while a refresh was in flight")
+                .register(registry);
+        Gauge.builder(PREFIX + "size", this, MxRecordCache::size)
+                .description("Domains currently cached")
+                .register(registry);
+        staleness = Timer.builder(PREFIX + "staleness")
+                .description("Age of cached MX answers when served")
+                .register(registry);
+    }
+
+    /**
+     * Look a hot domain up again in the background and replace its entry.
+     */
+    private void refresh(String key, MxResolver refresher) {
+        try {
+            refreshExecutor.execute(() -> {
+                Boolean present = null;
+                try {
+                    present = refresher.hasMxRecord(key);
+                } catch (RuntimeException ex) {
+                    // counted as a failed refresh below
+                }
+                if (present != null) {
+                    refreshes.increment();
+                    put(key, present);
+                } else {
+                    refreshFailed(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshFailed(key);
+        }
+    }
+
+    /**
+     * Let the next hit retry the refresh; the entry still expires on schedule.
+     */
+    private void refreshFailed(String domain) {
+        refreshFailures.increment();
+        synchronized (entries) {
+            Entry entry = entries.get(probe.set(domain, 0));
+            probe.set(null, 0);
+            if (entry != null) {
+                entry.refreshing = false;
+            }
+        }
+    }
+
+    /**
+     * Domain key: the characters of {@code text} from {@code from} on, compared case-insensitively.
+     * Stored keys are immutable; only the {@link #probe} is ever re-pointed.
+     */
+    private static final class Key {
+        private String text;
+        private int from;
+        private int hash;
+
+        Key set(String text, int from) {
+            this.text = text;
+            this.from = from;
+            int h = 0;
+            if (text != null) {
+                for (int i = from; i < text.length(); i++) {
+                    h = 31 * h + Character.toLowerCase(text.charAt(i));
+                }
+            }
+            this.hash = h;
+            return this;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key other) || hash != other.hash
+                    || text.length() - from != other.text.length() - other.from) {
+                return false;
+            }
+            for (int i = from, j = other.from; i < text.length(); i++, j++) {
+                if (Character.toLowerCase(text.charAt(i)) != Character.toLowerCase(other.text.charAt(j))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /** Cached answer; mutable fields are guarded by the {@code entries} lock. */
+    private static final class Entry {
+        final boolean present;
+        final long loadedAt;
+        final long expiresAt;
+        int hits;
+        boolean refreshing;
+
+        Entry(boolean present, long loadedAt, long expiresAt) {
+            this.present = present;
+            this.loadedAt = loadedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
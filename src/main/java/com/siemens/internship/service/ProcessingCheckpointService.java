@@ -0,0 +1,87 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.model.ProcessingCheckpoint;
+import com.siemens.internship.model.ProcessingJobStatus.State;
+import com.siemens.internship.repository.ProcessingCheckpointRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persists job checkpoints, each write in its own transaction so progress
+ * survives independently of the chunk transactions that produced it.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProcessingCheckpointService {
+
+    private final ProcessingCheckpointRepository repo;
+
+    /**
+     * Constructor for dependency injection.
+     * @param repo the repository to use for checkpoint persistence
+     */
+    public ProcessingCheckpointService(ProcessingCheckpointRepository repo) {
+        this.repo = repo;
+    }
+
+    /**
+     * Find the checkpoint of a job.
+     * @param jobId the job identifier
+     * @return the checkpoint, or empty if the job never ran
+     */
+    public Optional<ProcessingCheckpoint> find(String jobId) {
+        return repo.findById(jobId);
+    }
+
+    /**
+     * Find checkpoints of jobs that were still running when last seen.
+     * @return RUNNING checkpoints
+     */
+    public List<ProcessingCheckpoint> findInterrupted() {
+        return repo.findByState(State.RUNNING);
+    }
+
+    /**
+     * Create or reactivate the checkpoint of a job, keeping an existing watermark.
+     * @param jobId     the job identifier
+     * @param chunkSize chunk size used by the run
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void start(String jobId, int chunkSize) {
+        ProcessingCheckpoint checkpoint = repo.findById(jobId)
+                .orElseGet(() -> new ProcessingCheckpoint(jobId, 0L, chunkSize, State.RUNNING, Instant.now()));
+        checkpoint.setChunkSize(chunkSize);
+        checkpoint.setState(State.RUNNING);
+        checkpoint.setUpdatedAt(Instant.now());
+        repo.save(checkpoint);
+    }
+
+    /**
+     * Record that every item up to {@code lastProcessedId} has been committed.
+     * @param jobId           the job identifier
+     * @param lastProcessedId the new watermark
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void advance(String jobId, long lastProcessedId) {
+        repo.advance(jobId, lastProcessedId, Instant.now());
+    }
+
+    /**
+     * Record the final state of a job.
+     * @param jobId the job identifier
+     * @param state the terminal state
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void finish(String jobId, State state) {
+        repo.findById(jobId).ifPresent(checkpoint -> {
+            checkpoint.setState(state);
+            checkpoint.setUpdatedAt(Instant.now());
+            repo.save(checkpoint);
+        });
+    }
+}
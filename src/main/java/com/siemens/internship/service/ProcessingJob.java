@@ -0,0 +1,175 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.model.ChunkResult;
+import com.siemens.internship.model.ProcessingJobStatus;
+import com.siemens.internship.model.ProcessingJobStatus.State;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Mutable, thread-safe progress tracker for one background processing run.
+ *
+ * Counters are updated from processing threads as chunks complete;
+ * {@link #status()} produces an immutable snapshot for callers.
+ *
+ * Chunks may complete out of order, so the job also maintains a watermark:
+ * the last id of the longest prefix of consecutive committed chunks. Every
+ * time it moves, the checkpoint callback is invoked. A failed chunk freezes
+ * the watermark so a resumed run retries it.
+ */
+public class ProcessingJob implements ChunkProgressListener {
+
+    private final String id;
+    private final long total;
+    private final Instant startedAt = Instant.now();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final LongConsumer onCheckpoint;
+
+    private volatile State state = State.RUNNING;
+    private volatile boolean cancelRequested;
+    private volatile Instant finishedAt;
+
+    // Watermark bookkeeping, guarded by "this"
+    private final Map<Integer, ChunkResult> outOfOrder = new HashMap<>();
+    private int nextChunk;
+    private long watermark;
+    private boolean watermarkFrozen;
+
+    /**
+     * @param id           unique job identifier
+     * @param total        number of items expected to be processed
+     * @param startAfterId watermark the run starts from (0 for a fresh run)
+     * @param onCheckpoint invoked with the new watermark whenever it advances
+     */
+    public ProcessingJob(String id, long total, long startAfterId, LongConsumer onCheckpoint) {
+        this.id = id;
+        this.total = total;
+        this.watermark = startAfterId;
+        this.onCheckpoint = onCheckpoint;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    @Override
+    public void onChunkCompleted(ChunkResult result) {
+        if (result.success()) {
+            processed.addAndGet(result.updated());
+        } else {
+            failed.addAndGet(result.size());
+        }
+
+        long previous = watermark();
+        long advanced = advanceWatermark(result);
+        if (advanced > previous) {
+            onCheckpoint.accept(advanced);
+        }
+    }
+
+    /**
+     * Request cancellation; the id scan stops before the next chunk.
+     *
+     * @return false if the job had already finished
+     */
+    public synchronized boolean cancel() {
+        if (state.isFinished()) {
+            return false;
+        }
+        cancelRequested = true;
+        return true;
+    }
+
+    /**
+     * Record the end of the run.
+     *
+     * @param error the failure that aborted the run, or {@code null}
+     */
+    public synchronized void finish(Throwable error) {
+        if (state.isFinished()) {
+            return;
+        }
+        finishedAt = Instant.now();
+        if (error != null) {
+            state = State.FAILED;
+        } else if (cancelRequested) {
+            state = State.CANCELLED;
+        } else {
+            state = State.COMPLETED;
+        }
+    }
+
+    /**
+     * Build an immutable snapshot including throughput and ETA.
+     *
+     * @return current job status
+     */
+    public ProcessingJobStatus status() {
+        State current = state;
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long done = processed.get();
+        long bad = failed.get();
+        long remaining = current.isFinished() ? 0 : Math.max(total - done - bad, 0);
+
+        double elapsedSeconds = Duration.between(startedAt, end).toMillis() / 1000.0;
+        double throughput = elapsedSeconds > 0 ? done / elapsedSeconds : 0;
+        Long eta = !current.isFinished() && throughput > 0
+                ? (long) Math.ceil(remaining / throughput)
+                : null;
+
+        return new ProcessingJobStatus(id, current, total, done, bad, remaining,
+                watermark(), startedAt, finishedAt, throughput, eta);
+    }
+
+    private synchronized long watermark() {
+        return watermark;
+    }
+
+    /**
+     * Fold a completed chunk into the watermark.
+     *
+     * @return the watermark after applying the chunk
+     */
+    private synchronized long advanceWatermark(ChunkResult result) {
+        if (watermarkFrozen) {
+            return watermark;
+        }
+        outOfOrder.put(result.chunk(), result);
+
+        ChunkResult head;
+        while ((head = outOfOrder.remove(nextChunk)) != null) {
+            if (!head.success()) {
+                // Everything after a failed chunk must be retried on resume
+                watermarkFrozen = true;
+                outOfOrder.clear();
+                break;
+            }
+            watermark = head.lastId();
+            nextChunk++;
+        }
+        return watermark;
+    }
+}
@@ -0,0 +1,214 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.config.AsyncConfig;
+import com.siemens.internship.config.ProcessingProperties;
+import com.siemens.internship.model.ProcessingCheckpoint;
+import com.siemens.internship.model.ProcessingJobStatus;
+import com.siemens.internship.model.ProcessingJobStatus.State;
+import com.siemens.internship.model.ProcessingSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs chunked processing as background jobs that callers can poll, cancel, and resume.
+ *
+ * Each job drives {@link ItemService#processItemsInChunksAsync(Integer, long, ChunkProgressListener)}
+ * from the job executor, so submission returns immediately with a job id.
+ * Progress is checkpointed after committed chunks; re-submitting a job id, or
+ * restarting the application, continues from the stored watermark.
+ */
+@Slf4j
+@Service
+public class ProcessingJobService {
+
+    private final ItemService itemService;
+    private final ProcessingCheckpointService checkpoints;
+    private final TaskExecutor jobExecutor;
+    private final ProcessingProperties props;
+    private final Map<String, ProcessingJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for dependency injection.
+     * @param itemService the service exposing the chunked processing path
+     * @param checkpoints persistence of job watermarks
+     * @param jobExecutor executor driving the id scan of each job
+     * @param props       processing tunables (job retention, ...)
+     */
+    public ProcessingJobService(ItemService itemService,
+                                ProcessingCheckpointService checkpoints,
+                                @Qualifier(AsyncConfig.PROCESSING_JOB_EXECUTOR) TaskExecutor jobExecutor,
+                                ProcessingProperties props) {
+        this.itemService = itemService;
+        this.checkpoints = checkpoints;
+        this.jobExecutor = jobExecutor;
+        this.props = props;
+    }
+
+    /**
+     * Start a new processing job, or resume an earlier one, in the background.
+     * @param chunkSize number of IDs per chunk, or {@code null} for the checkpointed or configured default
+     * @param jobId     id of a job to resume or create, or {@code null} to generate one
+     * @return the initial status of the submitted job
+     * @throws IllegalStateException if the job is already running or has completed
+     */
+    public ProcessingJobStatus submit(Integer chunkSize, String jobId) {
+        evictExpired();
+
+        String id = jobId != null ? jobId : UUID.randomUUID().toString();
+        Optional<ProcessingCheckpoint> checkpoint = checkpoints.find(id);
+        if (checkpoint.isPresent() && checkpoint.get().getState() == State.COMPLETED) {
+            throw new IllegalStateException("Job " + id + " has already completed");
+        }
+
+        int size = chunkSize != null ? chunkSize
+                : checkpoint.map(ProcessingCheckpoint::getChunkSize).orElse(props.getChunkSize());
+        long startAfterId = checkpoint.map(ProcessingCheckpoint::getLastProcessedId).orElse(0L);
+        return start(id, size, startAfterId);
+    }
+
+    /**
+     * Look up the current status of a job.
+     * @param jobId the job identifier
+     * @return the status, or empty if the job is unknown or expired
+     */
+    public Optional<ProcessingJobStatus> status(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ProcessingJob::status);
+    }
+
+    /**
+     * Request cancellation of a running job.
+     * @param jobId the job identifier
+     * @return the status after the request, or empty if the job is unknown
+     * @throws IllegalStateException if the job has already finished
+     */
+    public Optional<ProcessingJobStatus> cancel(String jobId) {
+        ProcessingJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (!job.cancel()) {
+            throw new IllegalStateException("Job " + jobId + " has already finished");
+        }
+        return Optional.of(job.status());
+    }
+
+    /**
+     * Run summary-only processing with per-item callbacks off the calling thread,
+     * so a streaming response can be returned while items are still being read.
+     * @param listener per-item callbacks, invoked from processing threads
+     * @return a CompletableFuture containing the run summary
+     */
+    public CompletableFuture<ProcessingSummary> processInBackground(ItemProcessingListener listener) {
+        CompletableFuture<ProcessingSummary> result = new CompletableFuture<>();
+        jobExecutor.execute(() -> itemService.processItemsSummaryAsync(listener)
+                .whenComplete((summary, ex) -> {
+                    if (ex != null) {
+                        result.completeExceptionally(ex);
+                    } else {
+                        result.complete(summary);
+                    }
+                }));
+        return result;
+    }
+
+    /**
+     * Resume jobs that were still running when the previous instance stopped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        if (!props.isResumeOnStartup()) {
+            return;
+        }
+        for (ProcessingCheckpoint checkpoint : checkpoints.findInterrupted()) {
+            log.info("Resuming processing job {} after id {}",
+                    checkpoint.getJobId(), checkpoint.getLastProcessedId());
+            start(checkpoint.getJobId(), checkpoint.getChunkSize(), checkpoint.getLastProcessedId());
+        }
+    }
+
+    /**
+     * Register the job, persist its checkpoint, and hand the run to the job executor.
+     */
+    private ProcessingJobStatus start(String id, int chunkSize, long startAfterId) {
+        ProcessingJob job = new ProcessingJob(id, itemService.countEligibleAfter(startAfterId), startAfterId,
+                watermark -> checkpoint(id, watermark));
+
+        jobs.compute(id, (key, existing) -> {
+            if (existing != null && !existing.getState().isFinished()) {
+                throw new IllegalStateException("Job " + id + " is already running");
+            }
+            return job;
+        });
+        checkpoints.start(id, chunkSize);
+
+        try {
+            jobExecutor.execute(() -> run(job, chunkSize, startAfterId));
+        } catch (RuntimeException ex) {
+            finish(job, ex);
+            throw ex;
+        }
+        return job.status();
+    }
+
+    /**
+     * Drive the chunked run for a job; executed on the job executor.
+     */
+    private void run(ProcessingJob job, int chunkSize, long startAfterId) {
+        try {
+            itemService.processItemsInChunksAsync(chunkSize, startAfterId, job)
+                    .whenComplete((report, ex) -> finish(job, ex));
+        } catch (RuntimeException ex) {
+            log.error("Processing job {} aborted", job.getId(), ex);
+            finish(job, ex);
+        }
+    }
+
+    /**
+     * Mark the job finished and persist its terminal state.
+     * A run with failed chunks stays resumable, so its checkpoint is stored as FAILED.
+     */
+    private void finish(ProcessingJob job, Throwable error) {
+        job.finish(error);
+        State state = job.getState() == State.COMPLETED && job.getFailed() > 0
+                ? State.FAILED
+                : job.getState();
+        try {
+            checkpoints.finish(job.getId(), state);
+        } catch (RuntimeException ex) {
+            log.error("Could not persist final state of processing job {}", job.getId(), ex);
+        }
+        log.info("Processing job {} finished: {}", job.getId(), job.status());
+    }
+
+    /**
+     * Persist a watermark; failures are logged and only cost re-work on resume.
+     */
+    private void checkpoint(String jobId, long watermark) {
+        try {
+            checkpoints.advance(jobId, watermark);
+        } catch (RuntimeException ex) {
+            log.warn("Could not persist checkpoint {} for processing job {}", watermark, jobId, ex);
+        }
+    }
+
+    /**
+     * Drop finished jobs older than the configured retention.
+     */
+    private void evictExpired() {
+        Instant cutoff = Instant.now().minus(props.getJobRetention());
+        jobs.values().removeIf(job -> job.getState().isFinished()
+                && job.getFinishedAt() != null
+                && job.getFinishedAt().isBefore(cutoff));
+    }
+}
@@ -1,41 +1,102 @@
 package com.siemens.internship.service;
 
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.config.EmailValidationProperties.Mode;
+import com.siemens.internship.config.EmailValidationProperties.OpenPolicy;
+import com.siemens.internship.config.EmailValidationProperties.UnresolvedPolicy;
 import com.siemens.internship.service.ValidEmail;
+import com.siemens.internship.service.dns.JndiMxResolver;
+import com.siemens.internship.service.dns.MxResolver;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-
-import javax.naming.NamingException;
-import javax.naming.directory.Attributes;
-import javax.naming.directory.DirContext;
-import javax.naming.directory.InitialDirContext;
-import java.util.Hashtable;
-import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Autowired;
 
 /**
  * Validator for verifying email addresses.
  *
- * Performs both a regex format check and a DNS MX record lookup.
+ * Performs both a format check (see {@link EmailFormat}) and a DNS MX record lookup.
+ * Lookup results are kept in an {@link MxRecordCache}, so hot domains skip DNS entirely;
+ * live lookups are bounded by a deadline (see {@link AsyncMxLookup}) and skipped while
+ * the {@link MxCircuitBreaker} is open. In {@link Mode#DEFERRED} mode only the format is
+ * checked here, and the MX check is left to {@link EmailVerificationPipeline}.
  * Implements the Jakarta Bean Validation {@link ConstraintValidator} interface.
  */
 public class ValidEmailValidator implements ConstraintValidator<ValidEmail, String> {
 
+    private final MxRecordCache cache;
+    private final MxResolver lookup;
+    private final UnresolvedPolicy unresolvedPolicy;
+    private final OpenPolicy openPolicy;
+    private final Mode mode;
+
+    /**
+     * Standalone validator (plain Bean Validation bootstrap): default-sized private cache,
+     * lookups on the calling thread, and unresolved domains rejected.
+     */
+    public ValidEmailValidator() {
+        this(new EmailValidationProperties());
+    }
+
+    private ValidEmailValidator(EmailValidationProperties defaults) {
+        this(new MxRecordCache(defaults.getCache()),
+                new JndiMxResolver(defaults.getLookup().getDnsTimeout(), defaults.getLookup().getDnsRetries(),
+                        defaults.getLookup().getDnsServers()),
+                UnresolvedPolicy.REJECT);
+    }
+
     /**
-     * Regex pattern for basic email format validation.
+     * Validator used when Spring creates the constraint validator: shares the application-wide
+     * cache and the deadline-bounded lookup pool.
      *
-     * Slightly stricter than the default Hibernate @Email pattern:
-     * - Allows alphanumeric characters, dots, underscores, percent, plus, and hyphens before '@'.
-     * - Allows domain labels with alphanumeric characters and hyphens.
-     * - Requires a top-level domain of at least two letters.
+     * @param cache  MX lookup cache
+     * @param lookup deadline-bounded asynchronous lookup
+     * @param props  email validation tunables
+     */
+    @Autowired
+    public ValidEmailValidator(MxRecordCache cache, AsyncMxLookup lookup, EmailValidationProperties props) {
+        this(cache, lookup, props.getLookup().getUnresolvedPolicy(), props.getBreaker().getOpenPolicy(),
+                props.getMode());
+    }
+
+    /**
+     * @param cache            MX lookup cache
+     * @param lookup           live lookup; returns null when the outcome is unknown
+     * @param unresolvedPolicy outcome of a validation whose lookup returned null
+     */
+    public ValidEmailValidator(MxRecordCache cache, MxResolver lookup,
+                               UnresolvedPolicy unresolvedPolicy) {
+        this(cache, lookup, unresolvedPolicy, OpenPolicy.FAIL_FAST);
+    }
+
+    /**
+     * @param cache            MX lookup cache
+     * @param lookup           live lookup; returns null when the outcome is unknown and throws
+     *                         {@link MxCircuitOpenException} while its circuit breaker is open
+     * @param unresolvedPolicy outcome of a validation whose lookup returned null
+     * @param openPolicy       outcome of a validation whose lookup was refused by the circuit breaker
      */
-    private static final Pattern FORMAT = Pattern.compile(
-            "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,}$",
-            Pattern.CASE_INSENSITIVE);
+    public ValidEmailValidator(MxRecordCache cache, MxResolver lookup,
+                               UnresolvedPolicy unresolvedPolicy, OpenPolicy openPolicy) {
+        this(cache, lookup, unresolvedPolicy, openPolicy, Mode.SYNC);
+    }
+
+    private ValidEmailValidator(MxRecordCache cache, MxResolver lookup, UnresolvedPolicy unresolvedPolicy,
+                                OpenPolicy openPolicy, Mode mode) {
+        this.cache = cache;
+        this.lookup = lookup;
+        this.unresolvedPolicy = unresolvedPolicy;
+        this.openPolicy = openPolicy;
+        this.mode = mode;
+    }
 
     /**
      * Validates the provided email address.
      *
-     * Returns false if the value is null, blank, or fails the format regex.
-     * Otherwise, performs a DNS MX record lookup on the domain portion.
+     * Returns false if the value is null, blank, or fails the format check.
+     * In deferred mode, any other value is accepted and marked unverified. Otherwise,
+     * performs a DNS MX record lookup on the domain portion; if that lookup gives no
+     * answer, the configured {@link UnresolvedPolicy} decides, and if it was refused by
+     * the open circuit breaker, the {@link OpenPolicy}.
      *
      * @param value the email address to validate
      * @param ctx   the validation context (unused)
@@ -43,49 +104,51 @@ public class ValidEmailValidator implements ConstraintValidator<ValidEmail, Stri
      */
     @Override
     public boolean isValid(String value, ConstraintValidatorContext ctx) {
-        if (value == null || value.isBlank()) {
-            // Reject null or empty email addresses
+        // The domain is looked up by its offset, so a cache hit allocates nothing
+        int domainOffset = EmailFormat.domainOffset(value);
+        if (domainOffset < 0) {
+            // Reject null, blank, or malformed email addresses
             return false;
         }
-        if (!FORMAT.matcher(value).matches()) {
-            // Reject if regex pattern does not match
-            return false;
+        if (mode == Mode.DEFERRED) {
+            EmailVerification.markUnverified();
+            return true;
         }
 
-        // Extract domain part after '@'
-        String domain = value.substring(value.indexOf('@') + 1);
-        // Check DNS MX record for domain
-        return hasMxRecord(domain);
+        // Check DNS MX record for domain, served from the cache when possible
+        Boolean present;
+        try {
+            present = cache.resolve(value, domainOffset, lookup);
+        } catch (MxCircuitOpenException ex) {
+            return switch (openPolicy) {
+                case FAIL_FAST -> false;
+                case SKIP_AND_FLAG -> {
+                    EmailVerification.markUnverified();
+                    yield true;
+                }
+            };
+        }
+        if (present != null) {
+            return present;
+        }
+        return switch (unresolvedPolicy) {
+            case REJECT -> false;
+            case ACCEPT -> true;
+            case ACCEPT_AND_FLAG -> {
+                EmailVerification.markUnverified();
+                yield true;
+            }
+        };
     }
 
     /**
-     * Checks for the presence of an MX record for the given domain.
+     * Apply the format check and extract the domain of an email address.
      *
-     * Uses JNDI to perform a DNS lookup:
-     * - Configures the JNDI environment to use the DNS context factory.
-     * - Queries for MX records via {@link DirContext#getAttributes}.
-     *
-     * @param domain the DNS domain to query
-     * @return true if at least one MX record is found, false on error or absence
+     * @param value the email address
+     * @return the domain part after '@', or null if the value is null, blank, or malformed
      */
-    private boolean hasMxRecord(String domain) {
-        try {
-            // Set up JNDI environment for DNS lookups
-            Hashtable<String, String> env = new Hashtable<>();
-            env.put("java.naming.factory.initial",
-                    "com.sun.jndi.dns.DnsContextFactory");
-
-            // Create a DNS context using the specified environment
-            DirContext dns = new InitialDirContext(env);
-
-            // Query for MX records; returns an Attributes object
-            Attributes attrs = dns.getAttributes(domain, new String[]{"MX"});
-
-            // If the 'MX' attribute is present, the domain has mail servers
-            return attrs.get("MX") != null;
-        } catch (NamingException ex) {
-            // Any DNS resolution error or absence of MX record results in invalid email
-            return false;
-        }
+    public static String domainOf(String value) {
+        int offset = EmailFormat.domainOffset(value);
+        return offset < 0 ? null : value.substring(offset);
     }
 }
@@ -0,0 +1,213 @@
+package com.siemens.internship.service.dns;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal RFC 1035 encoder/decoder for MX queries over UDP.
+ *
+ * Only what an MX presence check needs: a single-question query with recursion desired,
+ * and a response reduced to its transaction id, question, response code, truncation flag,
+ * and number of MX answer records.
+ */
+public final class DnsMessageCodec {
+
+    /** Classic DNS over UDP payload limit without EDNS. */
+    public static final int MAX_UDP_PAYLOAD = 512;
+
+    static final int TYPE_MX = 15;
+    static final int CLASS_IN = 1;
+    static final int RCODE_NOERROR = 0;
+    static final int RCODE_NXDOMAIN = 3;
+
+    private static final int HEADER_LENGTH = 12;
+    private static final int FLAG_QR = 0x8000;
+    private static final int FLAG_TC = 0x0200;
+    private static final int FLAG_RD = 0x0100;
+
+    private DnsMessageCodec() {
+    }
+
+    /**
+     * Encode an MX query.
+     *
+     * @param id     16-bit transaction id
+     * @param domain the queried name
+     * @return the query, positioned for reading
+     * @throws IllegalArgumentException if a label is empty or longer than 63 bytes
+     */
+    public static ByteBuffer encodeMxQuery(int id, String domain) {
+        ByteBuffer buf = ByteBuffer.allocate(MAX_UDP_PAYLOAD);
+        buf.putShort((short) id);
+        buf.putShort((short) FLAG_RD);
+        buf.putShort((short) 1);   // QDCOUNT
+        buf.putShort((short) 0);   // ANCOUNT
+        buf.putShort((short) 0);   // NSCOUNT
+        buf.putShort((short) 0);   // ARCOUNT
+        writeName(buf, domain);
+        buf.putShort((short) TYPE_MX);
+        buf.putShort((short) CLASS_IN);
+        return buf.flip();
+    }
+
+    /**
+     * Encode a response to an MX query, as a server would; used by in-process stand-ins.
+     *
+     * @param id      transaction id of the query being answered
+     * @param domain  the queried name
+     * @param rcode   response code
+     * @param mxHosts exchange host names, one MX record each
+     * @return the response, positioned for reading
+     */
+    public static ByteBuffer encodeMxResponse(int id, String domain, int rcode, String... mxHosts) {
+        ByteBuffer buf = ByteBuffer.allocate(MAX_UDP_PAYLOAD);
+        buf.putShort((short) id);
+        buf.putShort((short) (FLAG_QR | FLAG_RD | 0x0080 | rcode));  // QR, RD, RA
+        buf.putShort((short) 1);
+        buf.putShort((short) mxHosts.length);
+        buf.putShort((short) 0);
+        buf.putShort((short) 0);
+        writeName(buf, domain);
+        buf.putShort((short) TYPE_MX);
+        buf.putShort((short) CLASS_IN);
+        for (int i = 0; i < mxHosts.length; i++) {
+            buf.putShort((short) (0xC000 | HEADER_LENGTH));  // pointer to the question name
+            buf.putShort((short) TYPE_MX);
+            buf.putShort((short) CLASS_IN);
+            buf.putInt(300);
+            int rdLengthAt = buf.position();
+            buf.putShort((short) 0);
+            buf.putShort((short) ((i + 1) * 10));  // preference
+            writeName(buf, mxHosts[i]);
+            buf.putShort(rdLengthAt, (short) (buf.position() - rdLengthAt - 2));
+        }
+        return buf.flip();
+    }
+
+    /**
+     * Read the transaction id of a message without decoding the rest.
+     *
+     * @param message a DNS message positioned at its start
+     * @return the 16-bit id, or -1 if the message is shorter than a header
+     */
+    public static int readId(ByteBuffer message) {
+        return message.remaining() < HEADER_LENGTH ? -1 : message.getShort(message.position()) & 0xFFFF;
+    }
+
+    /**
+     * Decode a response far enough to answer an MX presence check.
+     *
+     * @param message a DNS message positioned at its start
+     * @return the decoded response
+     * @throws IllegalArgumentException if the message is not a well-formed response
+     */
+    public static Response decodeResponse(ByteBuffer message) {
+        ByteBuffer buf = message.duplicate();
+        try {
+            int id = buf.getShort() & 0xFFFF;
+            int flags = buf.getShort() & 0xFFFF;
+            if ((flags & FLAG_QR) == 0) {
+                throw new IllegalArgumentException("Not a DNS response");
+            }
+            int questions = buf.getShort() & 0xFFFF;
+            int answers = buf.getShort() & 0xFFFF;
+            buf.position(buf.position() + 4);   // NSCOUNT, ARCOUNT
+
+            String question = questions > 0 ? readName(buf) : "";
+            for (int i = 0; i < questions; i++) {
+                if (i > 0) {
+                    skipName(buf);
+                }
+                buf.position(buf.position() + 4);   // QTYPE, QCLASS
+            }
+            int mx = 0;
+            for (int i = 0; i < answers; i++) {
+                skipName(buf);
+                int type = buf.getShort() & 0xFFFF;
+                buf.position(buf.position() + 6);   // CLASS, TTL
+                int rdLength = buf.getShort() & 0xFFFF;
+                buf.position(buf.position() + rdLength);
+                if (type == TYPE_MX) {
+                    mx++;
+                }
+            }
+            return new Response(id, question, flags & 0x000F, (flags & FLAG_TC) != 0, mx);
+        } catch (BufferUnderflowException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Malformed DNS response", ex);
+        }
+    }
+
+    private static void writeName(ByteBuffer buf, String name) {
+        String trimmed = name.endsWith(".") ? name.substring(0, name.length() - 1) : name;
+        for (String label : trimmed.split("\\.", -1)) {
+            byte[] bytes = label.getBytes(StandardCharsets.US_ASCII);
+            if (bytes.length == 0 || bytes.length > 63) {
+                throw new IllegalArgumentException("Invalid DNS label in " + name);
+            }
+            buf.put((byte) bytes.length).put(bytes);
+        }
+        buf.put((byte) 0);
+    }
+
+    /** Read the first name of a message, which cannot be compressed since nothing precedes it. */
+    private static String readName(ByteBuffer buf) {
+        StringBuilder name = new StringBuilder();
+        while (true) {
+            int len = buf.get() & 0xFF;
+            if (len == 0) {
+                return name.toString();
+            }
+            if (len > 63) {
+                throw new IllegalArgumentException("Unexpected label in question");
+            }
+            byte[] label = new byte[len];
+            buf.get(label);
+            if (name.length() > 0) {
+                name.append('.');
+            }
+            name.append(new String(label, StandardCharsets.US_ASCII));
+        }
+    }
+
+    /** Skip a possibly compressed name; a pointer always ends the name. */
+    private static void skipName(ByteBuffer buf) {
+        while (true) {
+            int len = buf.get() & 0xFF;
+            if (len == 0) {
+                return;
+            }
+            if ((len & 0xC0) == 0xC0) {
+                buf.get();
+                return;
+            }
+            buf.position(buf.position() + len);
+        }
+    }
+
+    /**
+     * The parts of a DNS response an MX presence check needs.
+     *
+     * @param id        transaction id
+     * @param question  name of the first question, as echoed by the server
+     * @param rcode     response code
+     * @param truncated whether the server truncated the response
+     * @param mxRecords number of MX records in the answer section
+     */
+    public record Response(int id, String question, int rcode, boolean truncated, int mxRecords) {
+
+        /**
+         * @return true if MX records were returned, false for NXDOMAIN or an empty NOERROR answer,
+         *         null for server failures and truncated answers
+         */
+        public Boolean toMxPresence() {
+            if (mxRecords > 0) {
+                return true;
+            }
+            if (rcode == RCODE_NXDOMAIN || (rcode == RCODE_NOERROR && !truncated)) {
+                return false;
+            }
+            return null;
+        }
+    }
+}
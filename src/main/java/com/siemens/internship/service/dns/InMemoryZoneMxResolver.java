@@ -0,0 +1,178 @@
+package com.siemens.internship.service.dns;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Offline MX resolver answering from an in-memory zone, with an optional artificial latency.
+ *
+ * Domains with an MX record resolve to true; names present in the zone without MX
+ * (e.g. only an A record) and unknown names resolve to false. Meant for tests and
+ * reproducible load runs without network access.
+ */
+public class InMemoryZoneMxResolver implements MxResolver {
+
+    private final Set<String> mxDomains;
+    private final Duration latency;
+
+    /**
+     * @param mxDomains domains that publish MX records
+     * @param latency   delay added to every lookup
+     */
+    public InMemoryZoneMxResolver(Collection<String> mxDomains, Duration latency) {
+        Set<String> normalized = new HashSet<>();
+        mxDomains.forEach(domain -> normalized.add(normalize(domain)));
+        this.mxDomains = Set.copyOf(normalized);
+        this.latency = latency;
+    }
+
+    /**
+     * Build a resolver from a master-file style zone.
+     *
+     * Recognizes records of the form {@code [owner] [ttl] [class] type rdata}, where {@code MX}
+     * records contribute their owner and other types are ignored. A record that starts with
+     * whitespace has the previous record's owner; {@code @} is the origin, and relative names
+     * are qualified with it ({@code $ORIGIN}, or taken as written before the first one).
+     * Parentheses continue a record over several lines. Besides {@code $ORIGIN}, only
+     * {@code $TTL} is accepted and ignored; blank lines and {@code ;} comments are skipped.
+     * Quoted strings containing {@code ;} or parentheses are not supported.
+     *
+     * @param zone    zone file contents
+     * @param latency delay added to every lookup
+     * @return the resolver
+     * @throws IllegalArgumentException if a line uses unsupported syntax, such as {@code $INCLUDE},
+     *                                  or a malformed MX record
+     * @throws UncheckedIOException     if the zone cannot be read
+     */
+    public static InMemoryZoneMxResolver fromZoneFile(Reader zone, Duration latency) {
+        Set<String> domains = new HashSet<>();
+        String origin = null;
+        String owner = null;
+        try (BufferedReader reader = new BufferedReader(zone)) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                int first = number;
+                String text = stripComment(line);
+                while (openParentheses(text) > 0) {
+                    String next = reader.readLine();
+                    if (next == null) {
+                        throw invalid(first, "unclosed parenthesis");
+                    }
+                    number++;
+                    text = text + " " + stripComment(next);
+                }
+                if (text.isBlank()) {
+                    continue;
+                }
+                String[] fields = text.replace('(', ' ').replace(')', ' ').trim().split("\\s+");
+                if (fields[0].startsWith("$")) {
+                    if ("$ORIGIN".equalsIgnoreCase(fields[0]) && fields.length == 2) {
+                        origin = qualify(fields[1], origin);
+                    } else if (!"$TTL".equalsIgnoreCase(fields[0]) || fields.length != 2) {
+                        throw invalid(first, "unsupported directive " + fields[0]);
+                    }
+                    continue;
+                }
+
+                int type = 0;
+                if (!Character.isWhitespace(text.charAt(0))) {
+                    if ("@".equals(fields[0]) && origin == null) {
+                        throw invalid(first, "@ without $ORIGIN");
+                    }
+                    owner = "@".equals(fields[0]) ? origin : qualify(fields[0], origin);
+                    type = 1;
+                } else if (owner == null) {
+                    throw invalid(first, "record without owner");
+                }
+                while (type < fields.length && (isTtl(fields[type]) || isClass(fields[type]))) {
+                    type++;
+                }
+                if (type == fields.length) {
+                    throw invalid(first, "record without type");
+                }
+                if ("MX".equalsIgnoreCase(fields[type])) {
+                    if (fields.length != type + 3) {
+                        throw invalid(first, "MX record needs a preference and an exchange");
+                    }
+                    domains.add(owner);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read zone", ex);
+        }
+        return new InMemoryZoneMxResolver(domains, latency);
+    }
+
+    private static String stripComment(String line) {
+        int comment = line.indexOf(';');
+        return comment >= 0 ? line.substring(0, comment) : line;
+    }
+
+    private static int openParentheses(String text) {
+        int depth = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '(') {
+                depth++;
+            } else if (text.charAt(i) == ')') {
+                depth--;
+            }
+        }
+        return depth;
+    }
+
+    /** An absolute name without its trailing dot, or a relative one under {@code origin} if set. */
+    private static String qualify(String name, String origin) {
+        if (name.endsWith(".")) {
+            return name.substring(0, name.length() - 1);
+        }
+        return origin == null ? name : name + "." + origin;
+    }
+
+    /** A TTL, in seconds or with units such as {@code 1h30m}. */
+    private static boolean isTtl(String field) {
+        return field.matches("\\d[0-9smhdwSMHDW]*");
+    }
+
+    private static boolean isClass(String field) {
+        return switch (field.toUpperCase(Locale.ROOT)) {
+            case "IN", "CH", "HS", "CS" -> true;
+            default -> false;
+        };
+    }
+
+    private static IllegalArgumentException invalid(int line, String reason) {
+        return new IllegalArgumentException("Unsupported zone syntax at line " + line + ": " + reason);
+    }
+
+    /** @return the domains that publish MX records */
+    public Set<String> getMxDomains() {
+        return mxDomains;
+    }
+
+    @Override
+    public Boolean hasMxRecord(String domain) {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency.toMillis(), latency.toNanosPart() % 1_000_000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return mxDomains.contains(normalize(domain));
+    }
+
+    private static String normalize(String domain) {
+        String lower = domain.toLowerCase(Locale.ROOT);
+        return lower.endsWith(".") ? lower.substring(0, lower.length() - 1) : lower;
+    }
+}
@@ -0,0 +1,78 @@
+package com.siemens.internship.service.dns;
+
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingException;
+import javax.naming.directory.Attributes;
+import javax.naming.directory.DirContext;
+import javax.naming.directory.InitialDirContext;
+import java.time.Duration;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MX resolver backed by the JDK's JNDI DNS provider.
+ *
+ * The provider's own query timeout and retry count are set explicitly, so a lookup
+ * never hangs for the JDK default of several seconds per server.
+ */
+public class JndiMxResolver implements MxResolver {
+
+    private final String dnsTimeoutMillis;
+    private final String dnsRetries;
+    private final String providerUrl;
+
+    /**
+     * @param dnsTimeout initial per-query timeout, doubled on each retry
+     * @param dnsRetries number of retries per DNS server
+     * @param servers    DNS servers as {@code host[:port]}; empty uses the system configuration
+     */
+    public JndiMxResolver(Duration dnsTimeout, int dnsRetries, List<String> servers) {
+        this.dnsTimeoutMillis = String.valueOf(Math.max(1, dnsTimeout.toMillis()));
+        this.dnsRetries = String.valueOf(dnsRetries);
+        this.providerUrl = servers.isEmpty() ? null : servers.stream()
+                .map(server -> "dns://" + server)
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Checks for the presence of an MX record for the given domain.
+     *
+     * Uses JNDI to perform a DNS lookup:
+     * - Configures the JNDI environment to use the DNS context factory.
+     * - Queries for MX records via {@link DirContext#getAttributes}.
+     *
+     * @param domain the DNS domain to query
+     * @return true if at least one MX record is found, false if the domain has none,
+     *         or null if the lookup failed and the outcome is unknown
+     */
+    @Override
+    public Boolean hasMxRecord(String domain) {
+        try {
+            // Set up JNDI environment for DNS lookups
+            Hashtable<String, String> env = new Hashtable<>();
+            env.put("java.naming.factory.initial",
+                    "com.sun.jndi.dns.DnsContextFactory");
+            env.put("com.sun.jndi.dns.timeout.initial", dnsTimeoutMillis);
+            env.put("com.sun.jndi.dns.timeout.retries", dnsRetries);
+            if (providerUrl != null) {
+                env.put("java.naming.provider.url", providerUrl);
+            }
+
+            // Create a DNS context using the specified environment
+            DirContext dns = new InitialDirContext(env);
+
+            // Query for MX records; returns an Attributes object
+            Attributes attrs = dns.getAttributes(domain, new String[]{"MX"});
+
+            // If the 'MX' attribute is present, the domain has mail servers
+            return attrs.get("MX") != null;
+        } catch (NameNotFoundException ex) {
+            // The domain does not exist: a definitive negative answer
+            return false;
+        } catch (NamingException ex) {
+            // Timeouts and server failures are transient; the outcome is unknown
+            return null;
+        }
+    }
+}
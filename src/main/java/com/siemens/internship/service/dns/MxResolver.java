@@ -0,0 +1,18 @@
+package com.siemens.internship.service.dns;
+
+/**
+ * Answers whether a mail domain publishes MX records.
+ *
+ * Implementations distinguish a definitive answer from an unknown outcome, so callers can
+ * cache the former and apply a policy to the latter.
+ */
+@FunctionalInterface
+public interface MxResolver {
+
+    /**
+     * @param domain the mail domain, lower case
+     * @return true if the domain has MX records, false if it has none or does not exist,
+     *         null if the lookup failed or timed out
+     */
+    Boolean hasMxRecord(String domain);
+}
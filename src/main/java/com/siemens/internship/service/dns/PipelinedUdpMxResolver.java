@@ -0,0 +1,182 @@
+package com.siemens.internship.service.dns;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * MX resolver multiplexing every lookup over one shared {@link DatagramChannel}.
+ *
+ * Each query gets a transaction id that is unique among the queries in flight; a single
+ * reader thread matches responses to waiting lookups by that id, the echoed question,
+ * and the source address, which must be one of the configured servers. Unanswered
+ * queries, and those answered only with a server failure or a truncated response, are
+ * re-sent to the next server after the per-query timeout, for {@code 1 + retries} rounds
+ * over all servers.
+ * No socket or context is allocated per lookup.
+ */
+@Slf4j
+public class PipelinedUdpMxResolver implements MxResolver, AutoCloseable {
+
+    private static final int ID_SPACE = 0x10000;
+
+    private final List<InetSocketAddress> servers;
+    private final Set<InetSocketAddress> trustedSources;
+    private final long timeoutMillis;
+    private final int retries;
+    private final DatagramChannel channel;
+    private final Map<Integer, Pending> pending = new ConcurrentHashMap<>();
+    private final Thread reader;
+
+    /**
+     * Open the shared channel and start the reader thread.
+     *
+     * @param servers DNS servers as {@code host[:port]}; empty uses {@code /etc/resolv.conf}
+     * @param timeout per-query timeout
+     * @param retries additional rounds over all servers
+     * @throws UncheckedIOException if the channel cannot be opened
+     */
+    public PipelinedUdpMxResolver(List<String> servers, Duration timeout, int retries) {
+        this.servers = (servers.isEmpty() ? UdpMxResolver.systemNameservers() : servers).stream()
+                .map(UdpMxResolver::parseServer)
+                .toList();
+        this.trustedSources = Set.copyOf(this.servers);
+        this.timeoutMillis = Math.max(1, timeout.toMillis());
+        this.retries = retries;
+        try {
+            this.channel = DatagramChannel.open();
+            this.channel.bind(null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open DNS channel", ex);
+        }
+        this.reader = new Thread(this::readResponses, "mx-udp-reader");
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    @Override
+    public Boolean hasMxRecord(String domain) {
+        Pending lookup = new Pending(domain, new CompletableFuture<>());
+        CompletableFuture<Boolean> answer = lookup.answer();
+        int id = register(lookup);
+        if (id < 0) {
+            log.debug("MX lookup for {} skipped: no free transaction id", domain);
+            return null;
+        }
+        try {
+            ByteBuffer query;
+            try {
+                query = DnsMessageCodec.encodeMxQuery(id, domain);
+            } catch (IllegalArgumentException ex) {
+                // Not a representable DNS name, so it cannot have MX records
+                return false;
+            }
+            for (int round = 0; round <= retries; round++) {
+                for (InetSocketAddress server : servers) {
+                    channel.send(query.duplicate(), server);
+                    try {
+                        return answer.get(timeoutMillis, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException ex) {
+                        // try the next server with the same transaction id
+                    }
+                }
+            }
+            return null;
+        } catch (IOException | ExecutionException ex) {
+            log.debug("MX lookup for {} failed", domain, ex);
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            pending.remove(id, lookup);
+        }
+    }
+
+    /** @return number of lookups waiting for a response */
+    public int inFlight() {
+        return pending.size();
+    }
+
+    /**
+     * Close the channel; lookups still waiting complete as unknown.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            log.debug("Error closing DNS channel", ex);
+        }
+        pending.values().forEach(lookup -> lookup.answer().complete(null));
+    }
+
+    /**
+     * Reserve a transaction id not used by any query in flight.
+     *
+     * @return the id, or -1 if the id space is exhausted
+     */
+    private int register(Pending lookup) {
+        int start = ThreadLocalRandom.current().nextInt(ID_SPACE);
+        for (int i = 0; i < ID_SPACE; i++) {
+            int id = (start + i) % ID_SPACE;
+            if (pending.putIfAbsent(id, lookup) == null) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    private void readResponses() {
+        ByteBuffer buf = ByteBuffer.allocateDirect(DnsMessageCodec.MAX_UDP_PAYLOAD);
+        while (channel.isOpen()) {
+            try {
+                buf.clear();
+                SocketAddress source = channel.receive(buf);
+                buf.flip();
+                if (!trustedSources.contains(source)) {
+                    continue;
+                }
+                Pending lookup = pending.get(DnsMessageCodec.readId(buf));
+                if (lookup == null) {
+                    continue;
+                }
+                DnsMessageCodec.Response response;
+                try {
+                    response = DnsMessageCodec.decodeResponse(buf);
+                } catch (IllegalArgumentException ex) {
+                    continue;
+                }
+                // A late answer to an earlier query that reused this id is ignored, and an
+                // inconclusive one (server failure, truncation) leaves the lookup to try the next server
+                Boolean presence = response.toMxPresence();
+                if (presence != null && response.question().equalsIgnoreCase(lookup.domain())) {
+                    lookup.answer().complete(presence);
+                }
+            } catch (ClosedChannelException ex) {
+                return;
+            } catch (IOException ex) {
+                log.debug("Error reading DNS response", ex);
+            }
+        }
+    }
+
+    private record Pending(String domain, CompletableFuture<Boolean> answer) {
+    }
+}
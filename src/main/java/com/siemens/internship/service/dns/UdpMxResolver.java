@@ -0,0 +1,150 @@
+package com.siemens.internship.service.dns;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Hand-rolled MX resolver speaking DNS over UDP to a list of servers.
+ *
+ * One socket per lookup; each server is tried in turn with the per-query timeout, for
+ * {@code 1 + retries} rounds. Responses with a foreign transaction id or from another
+ * address are ignored. A truncated answer without MX records is reported as unknown
+ * rather than retried over TCP.
+ */
+@Slf4j
+public class UdpMxResolver implements MxResolver {
+
+    private static final int DNS_PORT = 53;
+
+    private final List<InetSocketAddress> servers;
+    private final int timeoutMillis;
+    private final int retries;
+    private final Random ids = new SecureRandom();
+
+    /**
+     * @param servers DNS servers as {@code host[:port]}; empty uses {@code /etc/resolv.conf}
+     * @param timeout per-query timeout
+     * @param retries additional rounds over all servers
+     */
+    public UdpMxResolver(List<String> servers, Duration timeout, int retries) {
+        this.servers = (servers.isEmpty() ? systemNameservers() : servers).stream()
+                .map(UdpMxResolver::parseServer)
+                .toList();
+        this.timeoutMillis = (int) Math.max(1, timeout.toMillis());
+        this.retries = retries;
+    }
+
+    @Override
+    public Boolean hasMxRecord(String domain) {
+        ByteBuffer query;
+        int id = ids.nextInt(0x10000);
+        try {
+            query = DnsMessageCodec.encodeMxQuery(id, domain);
+        } catch (IllegalArgumentException ex) {
+            // Not a representable DNS name, so it cannot have MX records
+            return false;
+        }
+
+        try (DatagramSocket socket = new DatagramSocket()) {
+            socket.setSoTimeout(timeoutMillis);
+            for (int round = 0; round <= retries; round++) {
+                for (InetSocketAddress server : servers) {
+                    Boolean answer = exchange(socket, server, query, id);
+                    if (answer != null) {
+                        return answer;
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            log.debug("UDP MX lookup for {} failed", domain, ex);
+        }
+        return null;
+    }
+
+    /**
+     * Send the query to one server and wait for its matching response.
+     *
+     * @return the answer, or null on timeout or an inconclusive response
+     */
+    private Boolean exchange(DatagramSocket socket, InetSocketAddress server, ByteBuffer query, int id)
+            throws IOException {
+        socket.send(new DatagramPacket(query.array(), query.limit(), server));
+        byte[] buf = new byte[DnsMessageCodec.MAX_UDP_PAYLOAD];
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+        while (true) {
+            DatagramPacket packet = new DatagramPacket(buf, buf.length);
+            try {
+                socket.receive(packet);
+            } catch (SocketTimeoutException ex) {
+                return null;
+            }
+            ByteBuffer message = ByteBuffer.wrap(buf, 0, packet.getLength());
+            if (server.equals(packet.getSocketAddress()) && DnsMessageCodec.readId(message) == id) {
+                try {
+                    return DnsMessageCodec.decodeResponse(message).toMxPresence();
+                } catch (IllegalArgumentException ex) {
+                    return null;
+                }
+            }
+            // A stray or late datagram: keep waiting for the rest of this query's timeout
+            int left = (int) ((deadline - System.nanoTime()) / 1_000_000L);
+            if (left <= 0) {
+                return null;
+            }
+            socket.setSoTimeout(left);
+        }
+    }
+
+    /**
+     * @param server {@code host}, {@code host:port} or {@code [ipv6]:port}
+     * @return the resolved socket address
+     */
+    static InetSocketAddress parseServer(String server) {
+        String host = server.trim();
+        int port = DNS_PORT;
+        if (host.startsWith("[")) {
+            int end = host.indexOf(']');
+            if (host.length() > end + 2 && host.charAt(end + 1) == ':') {
+                port = Integer.parseInt(host.substring(end + 2));
+            }
+            host = host.substring(1, end);
+        } else if (host.indexOf(':') == host.lastIndexOf(':') && host.indexOf(':') > 0) {
+            port = Integer.parseInt(host.substring(host.indexOf(':') + 1));
+            host = host.substring(0, host.indexOf(':'));
+        }
+        return new InetSocketAddress(host, port);
+    }
+
+    /**
+     * @return the {@code nameserver} entries of {@code /etc/resolv.conf}, or localhost if none
+     */
+    static List<String> systemNameservers() {
+        try {
+            List<String> found = Files.readAllLines(Path.of("/etc/resolv.conf")).stream()
+                    .map(String::trim)
+                    .filter(line -> line.startsWith("nameserver"))
+                    .map(line -> line.substring("nameserver".length()).trim())
+                    .filter(address -> !address.isEmpty())
+                    .map(address -> address.contains(":") ? "[" + address + "]" : address)
+                    .toList();
+            if (!found.isEmpty()) {
+                return found;
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.debug("Could not read /etc/resolv.conf", ex);
+        }
+        return List.of("127.0.0.1");
+    }
+}
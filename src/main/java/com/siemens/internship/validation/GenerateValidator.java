@@ -0,0 +1,25 @@
+package com.siemens.internship.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate a reflection-free Spring {@code Validator} for the annotated class at compile time.
+ *
+ * The validator is named {@code <Class>Validator}, lives in the same package, and checks the
+ * class's field constraints with the same violation messages Hibernate Validator would give.
+ * Supported are {@code @NotNull}, {@code @NotBlank}, {@code @Size} and {@code @Pattern} on
+ * character sequences, and custom constraints, whose validator instance is passed to the
+ * generated constructor. A {@code @Pattern} that is a plain alternation of literals, such as
+ * {@code A|B|C}, becomes a {@code switch} instead of a regex.
+ *
+ * @see com.siemens.internship.validation.processor.ValidatorProcessor
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GenerateValidator {
+}
@@ -0,0 +1,408 @@
+package com.siemens.internship.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Annotation processor behind {@code @GenerateValidator}.
+ *
+ * Reads the Bean Validation constraints on the fields of each annotated class and writes a
+ * Spring {@code Validator} that checks them with plain code, resolving messages and their
+ * {@code {min}}, {@code {max}} and {@code {regexp}} parameters at compile time. Anything it
+ * cannot reproduce exactly (validation groups, EL expressions, unknown built-in constraints)
+ * is a compile error rather than a silent difference.
+ *
+ * This class is compiled before the rest of the sources (see the {@code compile-processor}
+ * execution in the pom), so it refers to annotations by name only.
+ */
+@SupportedAnnotationTypes(ValidatorProcessor.GENERATE_VALIDATOR)
+public class ValidatorProcessor extends AbstractProcessor {
+
+    static final String GENERATE_VALIDATOR = "com.siemens.internship.validation.GenerateValidator";
+
+    private static final String CONSTRAINTS = "jakarta.validation.constraints.";
+    private static final String CONSTRAINT = "jakarta.validation.Constraint";
+    private static final String CHAR_SEQUENCE = "java.lang.CharSequence";
+
+    /** English texts of the Hibernate Validator default messages for the supported constraints. */
+    private static final Map<String, String> DEFAULT_MESSAGES = Map.of(
+            "{jakarta.validation.constraints.NotNull.message}", "must not be null",
+            "{jakarta.validation.constraints.NotBlank.message}", "must not be blank",
+            "{jakarta.validation.constraints.Size.message}", "size must be between {min} and {max}",
+            "{jakarta.validation.constraints.Pattern.message}", "must match \"{regexp}\"");
+
+    /** A regex that is nothing but literal alternatives, e.g. {@code NEW|PROCESSED}. */
+    private static final Pattern LITERAL_ALTERNATION = Pattern.compile("[A-Za-z0-9_]+(\\|[A-Za-z0-9_]+)*");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    error(element, "@GenerateValidator applies to classes only");
+                    continue;
+                }
+                try {
+                    generate((TypeElement) element);
+                } catch (UnsupportedConstraintException ex) {
+                    error(ex.element, ex.getMessage());
+                } catch (IOException ex) {
+                    error(element, "Could not write validator: " + ex.getMessage());
+                }
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        String pkg = ((PackageElement) type.getEnclosingElement()).getQualifiedName().toString();
+        String target = type.getSimpleName().toString();
+        String name = target + "Validator";
+
+        // Custom constraint validators, by class name, become constructor parameters
+        Map<String, String> delegates = new LinkedHashMap<>();
+        List<String> patterns = new ArrayList<>();
+        StringBuilder checks = new StringBuilder();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            List<AnnotationMirror> constraints = constraintsOf(field);
+            if (constraints.isEmpty()) {
+                continue;
+            }
+            String fieldName = field.getSimpleName().toString();
+            checks.append("\n        ").append(sourceType(field.asType())).append(' ').append(fieldName)
+                    .append(" = bean.get").append(capitalize(fieldName)).append("();\n");
+            for (AnnotationMirror constraint : constraints) {
+                checks.append(check(field, constraint, delegates, patterns));
+            }
+        }
+
+        StringBuilder src = new StringBuilder();
+        src.append("package ").append(pkg).append(";\n\n");
+        src.append("import org.springframework.validation.Errors;\n");
+        src.append("import org.springframework.validation.Validator;\n\n");
+        src.append("import javax.annotation.processing.Generated;\n\n");
+        src.append("/**\n * Validator for {@link ").append(target)
+                .append("}, generated from its constraint annotations.\n */\n");
+        src.append("@Generated(\"").append(ValidatorProcessor.class.getName()).append("\")\n");
+        src.append("public final class ").append(name).append(" implements Validator {\n");
+        for (int i = 0; i < patterns.size(); i++) {
+            src.append("\n    private static final java.util.regex.Pattern PATTERN_").append(i)
+                    .append(" = ").append(patterns.get(i)).append(';');
+        }
+        if (!patterns.isEmpty()) {
+            src.append('\n');
+        }
+        delegates.forEach((cls, param) ->
+                src.append("\n    private final ").append(cls).append(' ').append(param).append(';'));
+
+        src.append("\n\n    /**\n");
+        if (delegates.isEmpty()) {
+            src.append("     * Create the validator.\n");
+        } else {
+            src.append("     * Create the validator around initialized validators of the custom constraints.\n     *\n");
+            delegates.forEach((cls, param) ->
+                    src.append("     * @param ").append(param).append(" validator of {@link ").append(cls).append("}\n"));
+        }
+        src.append("     */\n    public ").append(name).append('(');
+        src.append(String.join(", ", delegates.entrySet().stream()
+                .map(d -> d.getKey() + ' ' + d.getValue()).toList()));
+        src.append(") {\n");
+        delegates.values().forEach(param ->
+                src.append("        this.").append(param).append(" = ").append(param).append(";\n"));
+        src.append("    }\n\n");
+
+        src.append("    @Override\n    public boolean supports(Class<?> clazz) {\n");
+        src.append("        return ").append(target).append(".class.isAssignableFrom(clazz);\n    }\n\n");
+        src.append("    @Override\n    public void validate(Object target, Errors errors) {\n");
+        src.append("        ").append(target).append(" bean = (").append(target).append(") target;\n");
+        src.append(checks);
+        src.append("    }\n\n");
+        src.append("    /** Same rule as Hibernate Validator's {@code @NotBlank}: some character above U+0020. */\n");
+        src.append("    private static boolean hasText(CharSequence value) {\n");
+        src.append("        if (value == null) {\n            return false;\n        }\n");
+        src.append("        for (int i = 0; i < value.length(); i++) {\n");
+        src.append("            if (value.charAt(i) > ' ') {\n                return true;\n            }\n        }\n");
+        src.append("        return false;\n    }\n}\n");
+
+        try (Writer out = processingEnv.getFiler().createSourceFile(pkg + '.' + name, type).openWriter()) {
+            out.write(src.toString());
+        }
+    }
+
+    /**
+     * @return the constraint annotations on a field: built-in ones and those meta-annotated with {@code @Constraint}
+     */
+    private List<AnnotationMirror> constraintsOf(VariableElement field) {
+        List<AnnotationMirror> constraints = new ArrayList<>();
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotation.getQualifiedName().toString().startsWith(CONSTRAINTS) || isCustomConstraint(annotation)) {
+                constraints.add(mirror);
+            }
+        }
+        return constraints;
+    }
+
+    private static boolean isCustomConstraint(TypeElement annotation) {
+        return annotation.getAnnotationMirrors().stream()
+                .anyMatch(meta -> typeName(meta).equals(CONSTRAINT));
+    }
+
+    /**
+     * @return the statements checking one constraint on a field
+     */
+    private String check(VariableElement field, AnnotationMirror constraint,
+                         Map<String, String> delegates, List<String> patterns) {
+        Map<String, AnnotationValue> attrs = attributes(constraint);
+        if (!((List<?>) attrs.get("groups").getValue()).isEmpty()) {
+            throw new UnsupportedConstraintException(field, "Validation groups are not supported");
+        }
+        String fieldName = field.getSimpleName().toString();
+        String annotation = typeName(constraint);
+        String simpleName = annotation.substring(annotation.lastIndexOf('.') + 1);
+        String message = message(field, attrs);
+
+        String violated;
+        switch (annotation) {
+            case CONSTRAINTS + "NotNull" -> violated = fieldName + " == null";
+            case CONSTRAINTS + "NotBlank" -> {
+                requireCharSequence(field, simpleName);
+                violated = "!hasText(" + fieldName + ")";
+            }
+            case CONSTRAINTS + "Size" -> {
+                requireCharSequence(field, simpleName);
+                int min = (Integer) attrs.get("min").getValue();
+                int max = (Integer) attrs.get("max").getValue();
+                List<String> bounds = new ArrayList<>();
+                if (min > 0) {
+                    bounds.add(fieldName + ".length() < " + min);
+                }
+                if (max < Integer.MAX_VALUE) {
+                    bounds.add(fieldName + ".length() > " + max);
+                }
+                if (bounds.isEmpty()) {
+                    return "";
+                }
+                violated = fieldName + " != null && (" + String.join(" || ", bounds) + ")";
+            }
+            case CONSTRAINTS + "Pattern" -> {
+                requireCharSequence(field, simpleName);
+                String regexp = (String) attrs.get("regexp").getValue();
+                List<?> flags = (List<?>) attrs.get("flags").getValue();
+                if (flags.isEmpty() && LITERAL_ALTERNATION.matcher(regexp).matches()) {
+                    return literalSwitch(fieldName, regexp.split("\\|"), simpleName, message);
+                }
+                StringBuilder compile = new StringBuilder("java.util.regex.Pattern.compile(").append(literal(regexp));
+                if (!flags.isEmpty()) {
+                    compile.append(", ").append(String.join(" | ", flags.stream()
+                            .map(flag -> "java.util.regex.Pattern."
+                                    + ((VariableElement) ((AnnotationValue) flag).getValue()).getSimpleName())
+                            .toList()));
+                }
+                patterns.add(compile.append(')').toString());
+                violated = fieldName + " != null && !PATTERN_" + (patterns.size() - 1)
+                        + ".matcher(" + fieldName + ").matches()";
+            }
+            default -> {
+                if (annotation.startsWith(CONSTRAINTS)) {
+                    throw new UnsupportedConstraintException(field, "Unsupported constraint @" + simpleName);
+                }
+                String validator = customValidator(field, constraint);
+                String param = delegates.computeIfAbsent(validator,
+                        cls -> decapitalize(cls.substring(cls.lastIndexOf('.') + 1)));
+                violated = "!" + param + ".isValid(" + fieldName + ", null)";
+            }
+        }
+        return "        if (" + violated + ") {\n"
+                + "            errors.rejectValue(\"" + fieldName + "\", \"" + simpleName + "\", "
+                + literal(message) + ");\n"
+                + "        }\n";
+    }
+
+    /** Full match of a literal alternation, as a string switch. */
+    private static String literalSwitch(String fieldName, String[] alternatives, String code, String message) {
+        StringBuilder out = new StringBuilder();
+        out.append("        if (").append(fieldName).append(" != null) {\n");
+        out.append("            switch (").append(fieldName).append(".toString()) {\n");
+        out.append("                case ");
+        out.append(String.join(", ", Arrays.stream(alternatives).distinct().map(ValidatorProcessor::literal)
+                .toList()));
+        out.append(" -> {\n                }\n");
+        out.append("                default -> errors.rejectValue(\"").append(fieldName).append("\", \"")
+                .append(code).append("\", ").append(literal(message)).append(");\n");
+        out.append("            }\n        }\n");
+        return out.toString();
+    }
+
+    /**
+     * Resolve a constraint's message as Hibernate Validator would for the default locale.
+     */
+    private static String message(VariableElement field, Map<String, AnnotationValue> attrs) {
+        String message = (String) attrs.get("message").getValue();
+        message = DEFAULT_MESSAGES.getOrDefault(message, message);
+        if (message.contains("${")) {
+            throw new UnsupportedConstraintException(field, "EL expressions in messages are not supported");
+        }
+        for (String param : List.of("min", "max", "regexp")) {
+            AnnotationValue value = attrs.get(param);
+            if (value != null) {
+                message = message.replace("{" + param + "}", String.valueOf(value.getValue()));
+            }
+        }
+        if (message.matches(".*\\{[^}]*}.*")) {
+            throw new UnsupportedConstraintException(field, "Unresolved message parameter in \"" + message + "\"");
+        }
+        return message;
+    }
+
+    /**
+     * @return the fully qualified name of the first validator in the constraint's {@code @Constraint(validatedBy)}
+     */
+    private String customValidator(VariableElement field, AnnotationMirror constraint) {
+        Element annotation = constraint.getAnnotationType().asElement();
+        for (AnnotationMirror meta : annotation.getAnnotationMirrors()) {
+            if (typeName(meta).equals(CONSTRAINT)) {
+                List<?> validators = (List<?>) attributes(meta).get("validatedBy").getValue();
+                if (validators.size() == 1) {
+                    TypeMirror validator = (TypeMirror) ((AnnotationValue) validators.get(0)).getValue();
+                    return ((TypeElement) ((DeclaredType) validator).asElement()).getQualifiedName().toString();
+                }
+            }
+        }
+        throw new UnsupportedConstraintException(field,
+                "Custom constraint @" + annotation.getSimpleName() + " needs exactly one validator");
+    }
+
+    private void requireCharSequence(VariableElement field, String constraint) {
+        TypeMirror charSequence = processingEnv.getElementUtils().getTypeElement(CHAR_SEQUENCE).asType();
+        if (!processingEnv.getTypeUtils().isAssignable(field.asType(), charSequence)) {
+            throw new UnsupportedConstraintException(field, "@" + constraint + " is supported on character sequences only");
+        }
+    }
+
+    private Map<String, AnnotationValue> attributes(AnnotationMirror mirror) {
+        Map<String, AnnotationValue> attrs = new LinkedHashMap<>();
+        processingEnv.getElementUtils().getElementValuesWithDefaults(mirror)
+                .forEach((ExecutableElement key, AnnotationValue value) ->
+                        attrs.put(key.getSimpleName().toString(), value));
+        return attrs;
+    }
+
+    private static String typeName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Source form of a type without its type annotations: {@code TypeMirror.toString()} would
+     * render TYPE_USE constraints such as {@code @NotBlank} in front of the type, which is not
+     * valid in a local variable declaration.
+     */
+    private static String sourceType(TypeMirror type) {
+        return switch (type.getKind()) {
+            case DECLARED -> {
+                DeclaredType declared = (DeclaredType) type;
+                String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty()) {
+                    yield name;
+                }
+                yield name + declared.getTypeArguments().stream()
+                        .map(ValidatorProcessor::sourceType)
+                        .collect(Collectors.joining(", ", "<", ">"));
+            }
+            case ARRAY -> sourceType(((ArrayType) type).getComponentType()) + "[]";
+            case TYPEVAR -> ((TypeVariable) type).asElement().getSimpleName().toString();
+            case WILDCARD -> {
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    yield "? extends " + sourceType(wildcard.getExtendsBound());
+                }
+                if (wildcard.getSuperBound() != null) {
+                    yield "? super " + sourceType(wildcard.getSuperBound());
+                }
+                yield "?";
+            }
+            default -> type.getKind().name().toLowerCase(Locale.ROOT);
+        };
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /** Java string literal for a value, with non-ASCII characters escaped. */
+    private static String literal(String value) {
+        StringBuilder out = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7E) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /** A constraint the generated code could not check exactly like Hibernate Validator. */
+    private static final class UnsupportedConstraintException extends RuntimeException {
+        private final transient Element element;
+
+        UnsupportedConstraintException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
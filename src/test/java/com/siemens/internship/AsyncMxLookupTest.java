@@ -0,0 +1,196 @@
+package com.siemens.internship;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.service.AsyncMxLookup;
+import com.siemens.internship.service.MxCircuitBreaker;
+import com.siemens.internship.service.MxCircuitOpenException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link AsyncMxLookup}: deadline, concurrency cap, shared in-flight lookups,
+ * and the circuit breaker.
+ */
+class AsyncMxLookupTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);   // Holds the fake DNS query
+    private final AtomicInteger queries = new AtomicInteger();
+    private AsyncMxLookup lookup;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        lookup.shutdown();
+    }
+
+    /**
+     * A fast answer is returned as-is.
+     */
+    @Test
+    void returnsAnswerWithinDeadline() {
+        lookup = new AsyncMxLookup(domain -> true, Duration.ofSeconds(1), 2);
+
+        assertEquals(Boolean.TRUE, lookup.hasMxRecord("example.org"));
+    }
+
+    /**
+     * A lookup slower than the deadline is reported as unknown without waiting for it.
+     */
+    @Test
+    void slowLookupIsUnresolvedAfterDeadline() {
+        lookup = new AsyncMxLookup(this::slowQuery, Duration.ofMillis(50), 2);
+
+        long start = System.nanoTime();
+        assertNull(lookup.hasMxRecord("slow.org"));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Beyond the concurrency cap new lookups are shed immediately.
+     */
+    @Test
+    void lookupsBeyondCapAreShed() throws Exception {
+        lookup = new AsyncMxLookup(this::slowQuery, Duration.ofSeconds(5), 1);
+
+        // given: one lookup occupying the only slot
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> lookup.hasMxRecord("a.org"));
+        awaitQueries(1);
+
+        // when / then: a lookup for another domain is shed without a query
+        assertNull(lookup.hasMxRecord("b.org"));
+        assertEquals(1, queries.get());
+
+        release.countDown();
+        assertEquals(Boolean.TRUE, first.get(1, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Concurrent lookups for the same domain share one query.
+     */
+    @Test
+    void concurrentLookupsForSameDomainShareQuery() throws Exception {
+        lookup = new AsyncMxLookup(this::slowQuery, Duration.ofSeconds(5), 4);
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> lookup.hasMxRecord("a.org"));
+        awaitQueries(1);
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> lookup.hasMxRecord("a.org"));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertEquals(Boolean.TRUE, first.get(1, TimeUnit.SECONDS));
+        assertEquals(Boolean.TRUE, second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, queries.get());
+    }
+
+    /**
+     * Unanswered queries open the breaker; further lookups fail at once without a query.
+     */
+    @Test
+    void openBreakerRefusesLookupsWithoutQuery() {
+        EmailValidationProperties.Breaker settings = new EmailValidationProperties.Breaker();
+        settings.setWindowSize(4);
+        settings.setMinimumCalls(2);
+        MxCircuitBreaker breaker = new MxCircuitBreaker(settings, System::nanoTime);
+        lookup = new AsyncMxLookup(domain -> {
+            queries.incrementAndGet();
+            return null;
+        }, Duration.ofSeconds(1), 2, breaker);
+
+        assertNull(lookup.hasMxRecord("a.org"));
+        assertNull(lookup.hasMxRecord("b.org"));
+        assertEquals(MxCircuitBreaker.State.OPEN, breaker.getState());
+
+        assertThrows(MxCircuitOpenException.class, () -> lookup.hasMxRecord("c.org"));
+        assertNull(lookup.lookupAsync("c.org").join());
+        assertEquals(2, queries.get());
+    }
+
+    /**
+     * A lookup shed while the breaker is half-open does not use up a probe: the probes left
+     * still get through and close the breaker.
+     */
+    @Test
+    void shedLookupDoesNotUseUpHalfOpenProbe() throws Exception {
+        AtomicLong now = new AtomicLong();
+        EmailValidationProperties.Breaker settings = new EmailValidationProperties.Breaker();
+        settings.setWindowSize(2);
+        settings.setMinimumCalls(1);
+        settings.setOpenDuration(Duration.ofSeconds(1));
+        settings.setHalfOpenProbes(2);
+        MxCircuitBreaker breaker = new MxCircuitBreaker(settings, now::get);
+        lookup = new AsyncMxLookup(this::slowQuery, Duration.ofSeconds(5), 1, breaker);
+
+        // given: a breaker that is due to go half-open, and a first probe holding the only slot
+        breaker.onFailure();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> lookup.hasMxRecord("a.org"));
+        awaitQueries(1);
+        assertEquals(MxCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        // when: a lookup finds no free slot and is shed
+        assertNull(lookup.hasMxRecord("b.org"));
+        release.countDown();
+        assertEquals(Boolean.TRUE, first.get(1, TimeUnit.SECONDS));
+
+        // then: the second probe is still granted, and its answer closes the breaker
+        assertEquals(Boolean.TRUE, lookup.hasMxRecord("c.org"));
+        assertEquals(MxCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(2, queries.get());
+    }
+
+    /**
+     * A batch holds at most its share of the slots: a request lookup still gets one while the
+     * batch is saturated, and a batch lookup that finds no slot by its deadline is unresolved.
+     */
+    @Test
+    void requestLookupSucceedsWhileBatchHoldsItsShare() throws Exception {
+        lookup = new AsyncMxLookup(domain -> domain.startsWith("slow.") ? slowQuery(domain) : Boolean.TRUE,
+                Duration.ofSeconds(5), 4, 2, null);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+
+        // given: a batch holding both of its slots with slow queries
+        CompletableFuture<Boolean> first = lookup.lookupAsyncForBatch("slow.a.org", deadline);
+        CompletableFuture<Boolean> second = lookup.lookupAsyncForBatch("slow.b.org", deadline);
+        awaitQueries(2);
+
+        // when / then: a request lookup is answered at once
+        assertEquals(Boolean.TRUE, lookup.hasMxRecord("fast.org"));
+
+        // and the batch's next lookup gives up at its deadline without a query
+        long start = System.nanoTime();
+        assertNull(lookup.lookupAsyncForBatch("slow.c.org", deadline).get(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(2, queries.get());
+
+        // the lookups in flight are unresolved for the batch once its deadline passed
+        assertNull(first.get(1, TimeUnit.SECONDS));
+        assertNull(second.get(1, TimeUnit.SECONDS));
+    }
+
+    private Boolean slowQuery(String domain) {
+        queries.incrementAndGet();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+
+    private void awaitQueries(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (queries.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, queries.get());
+    }
+}
@@ -0,0 +1,83 @@
+package com.siemens.internship;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.controller.EmailController;
+import com.siemens.internship.controller.GlobalExceptionHandler;
+import com.siemens.internship.model.EmailValidationReport;
+import com.siemens.internship.model.EmailVerdict;
+import com.siemens.internship.service.EmailValidationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Web layer tests for {@link EmailController}.
+ */
+class EmailControllerTest {
+
+    @Mock
+    private EmailValidationService service; // Mocked batch validation
+
+    @InjectMocks
+    private EmailController controller;     // Controller under test
+
+    private MockMvc mvc;
+    private final ObjectMapper om = new ObjectMapper();
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        mvc = MockMvcBuilders
+                .standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    /**
+     * POST /api/emails/validate returns one verdict per address.
+     */
+    @Test
+    void validateReturnsVerdicts() throws Exception {
+        List<String> emails = List.of("a@corp.com", "bad");
+        when(service.validate(emails)).thenReturn(EmailValidationReport.of(List.of(
+                new EmailVerdict("a@corp.com", EmailVerdict.Status.VALID),
+                new EmailVerdict("bad", EmailVerdict.Status.INVALID_FORMAT)), 1));
+
+        mvc.perform(post("/api/emails/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(emails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.addresses").value(2))
+                .andExpect(jsonPath("$.distinctDomains").value(1))
+                .andExpect(jsonPath("$.valid").value(1))
+                .andExpect(jsonPath("$.results[1].email").value("bad"))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID_FORMAT"));
+    }
+
+    /**
+     * Oversized batches are rejected before any lookup.
+     */
+    @Test
+    void oversizedBatchIsRejected() throws Exception {
+        List<String> emails = Collections.nCopies(10_001, "a@corp.com");
+
+        mvc.perform(post("/api/emails/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(emails)))
+                .andExpect(status().isBadRequest());
+        verify(service, never()).validate(any());
+    }
+}
@@ -0,0 +1,90 @@
+package com.siemens.internship;
+
+import com.siemens.internship.service.EmailFormat;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link EmailFormat}, including a differential fuzz run against the reference regex.
+ */
+class EmailFormatTest {
+
+    /** Characters that exercise every branch of the grammar, plus a few it must reject. */
+    private static final char[] ALPHABET = (
+            "aZk09@@..._%+-"          // valid characters, with '@' and '.' weighted up
+            + " \n\r\t#!:/\\\"'"       // separators and punctuation outside the grammar
+            + "\u00e9\u212a\u0130\u017f\u0660\uff21"  // non-ASCII letters/digits, incl. case-folding traps (Kelvin sign, long s)
+    ).toCharArray();
+
+    private static final int FUZZ_CASES = 500_000;
+
+    /**
+     * Hand-picked boundary cases agree with the regex and report the domain offset.
+     */
+    @Test
+    void boundaryCasesMatchReference() {
+        List<String> cases = List.of(
+                "user@example.org", "a@b.co", "a.b+c_d%e-f@sub-1.example.com", "x@..com", "x@-.io",
+                "", "@example.org", "user@", "user@org", "user@.org", "user@example.c", "user@example.c0m",
+                "user@@example.org", "us@er@example.org", "user@exa_mple.org", "user@example.org.",
+                "user@example.org\n", "user example@example.org", "user@example.Ka", "é@example.org");
+        for (String value : cases) {
+            assertAgrees(value);
+        }
+        assertEquals(5, EmailFormat.domainOffset("user@example.org"));
+        assertEquals(-1, EmailFormat.domainOffset(null));
+    }
+
+    /**
+     * Random strings over a grammar-heavy alphabet are classified exactly like the regex.
+     * The seed is fixed so a failure is reproducible.
+     */
+    @Test
+    void fuzzedInputsMatchReference() {
+        SplittableRandom random = new SplittableRandom(0x5EED_E3A1L);
+        StringBuilder sb = new StringBuilder();
+        int accepted = 0;
+        for (int n = 0; n < FUZZ_CASES; n++) {
+            sb.setLength(0);
+            int length = random.nextInt(14);
+            for (int i = 0; i < length; i++) {
+                sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+            // Bias a share of the inputs towards almost-valid addresses
+            if (random.nextInt(3) == 0) {
+                sb.append('@').append("ex").append(ALPHABET[random.nextInt(ALPHABET.length)])
+                        .append('.').append(random.nextBoolean() ? "org" : "o");
+            }
+            if (assertAgrees(sb.toString())) {
+                accepted++;
+            }
+        }
+        // Guard against a generator that never produces valid addresses
+        assertTrue(accepted > 200, "only " + accepted + " accepted inputs");
+    }
+
+    /**
+     * @return whether the value is a valid address
+     */
+    private static boolean assertAgrees(String value) {
+        boolean expected = EmailFormat.REFERENCE.matcher(value).matches();
+        int offset = EmailFormat.domainOffset(value);
+        assertEquals(expected, offset >= 0, () -> "disagreement on " + escape(value));
+        if (expected) {
+            assertEquals(value.indexOf('@') + 1, offset, () -> "wrong offset for " + escape(value));
+        }
+        return expected;
+    }
+
+    private static String escape(String value) {
+        StringBuilder out = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            out.append(c >= 0x20 && c < 0x7F ? String.valueOf(c) : String.format("\\u%04x", (int) c));
+        }
+        return out.append('"').toString();
+    }
+}
@@ -0,0 +1,171 @@
+package com.siemens.internship;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.model.EmailValidationReport;
+import com.siemens.internship.model.EmailVerdict.Status;
+import com.siemens.internship.service.AsyncMxLookup;
+import com.siemens.internship.service.EmailValidationService;
+import com.siemens.internship.service.MxRecordCache;
+import com.siemens.internship.service.dns.InMemoryZoneMxResolver;
+import com.siemens.internship.service.dns.MxResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EmailValidationService}, resolving against an in-memory zone.
+ */
+class EmailValidationServiceTest {
+
+    private final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>(); // Live lookups per domain
+    private final EmailValidationProperties props = new EmailValidationProperties();
+    private AsyncMxLookup lookup;
+    private MxRecordCache cache;
+    private EmailValidationService service;
+
+    @BeforeEach
+    void setUp() {
+        MxResolver zone = new InMemoryZoneMxResolver(List.of("corp.com", "mail.org"), Duration.ofMillis(20));
+        MxResolver counting = domain -> {
+            lookups.computeIfAbsent(domain, d -> new AtomicInteger()).incrementAndGet();
+            return domain.startsWith("slow.") ? slow() : zone.hasMxRecord(domain);
+        };
+        props.getLookup().setTimeout(Duration.ofMillis(500));
+        props.getLookup().setMaxConcurrent(4);
+        props.getLookup().setBatchTimeout(Duration.ofSeconds(5));
+        lookup = new AsyncMxLookup(counting, props.getLookup().getTimeout(), props.getLookup().getMaxConcurrent(),
+                props.getLookup().getMaxConcurrent(), null);
+        cache = new MxRecordCache(props.getCache());
+        service = new EmailValidationService(cache, lookup, props);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lookup.shutdown();
+    }
+
+    /**
+     * Each address gets a verdict in order, and each distinct domain is resolved once.
+     */
+    @Test
+    void resolvesEachDistinctDomainOnce() {
+        List<String> emails = Arrays.asList(
+                "a@corp.com", "b@CORP.com", "not-an-email", "c@mail.org",
+                "d@nomx.net", "e@corp.com", null, "f@slow.example");
+
+        EmailValidationReport report = service.validate(emails);
+
+        assertEquals(8, report.addresses());
+        assertEquals(4, report.distinctDomains());
+        assertEquals(4, report.valid());
+        assertEquals(List.of(Status.VALID, Status.VALID, Status.INVALID_FORMAT, Status.VALID,
+                        Status.NO_MX, Status.VALID, Status.INVALID_FORMAT, Status.UNRESOLVED),
+                report.results().stream().map(v -> v.status()).toList());
+        assertEquals("b@CORP.com", report.results().get(1).email());
+        lookups.values().forEach(count -> assertEquals(1, count.get()));
+    }
+
+    /**
+     * Answers are cached, so a second batch needs no lookups for known domains.
+     */
+    @Test
+    void secondBatchIsServedFromCache() {
+        service.validate(List.of("a@corp.com", "b@nomx.net"));
+        service.validate(List.of("c@corp.com", "d@nomx.net"));
+
+        assertEquals(1, lookups.get("corp.com").get());
+        assertEquals(1, lookups.get("nomx.net").get());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    /**
+     * Domains are resolved in parallel: many distinct domains take far less than their summed latency,
+     * and none are shed even though the batch exceeds the lookup concurrency cap.
+     */
+    @Test
+    void distinctDomainsAreResolvedInParallel() {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            emails.add("user@d" + i + ".corp.com");
+        }
+        Collections.shuffle(emails);
+
+        long start = System.nanoTime();
+        EmailValidationReport report = service.validate(emails);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertEquals(40, report.distinctDomains());
+        assertTrue(report.results().stream().noneMatch(v -> v.status() == Status.UNRESOLVED));
+        assertTrue(elapsedMillis < 40 * 20, "took " + elapsedMillis + " ms");
+    }
+
+    /**
+     * Lookups that miss the deadline keep their pool slots until DNS gives up; the domains
+     * after them wait for those slots instead of being shed as unresolved.
+     */
+    @Test
+    void domainsBehindSlowLookupsWaitForSlots() {
+        // given: as many slow domains as there are lookup slots, followed by a fast one
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < props.getLookup().getMaxConcurrent(); i++) {
+            emails.add("user@slow.d" + i + ".example");
+        }
+        emails.add("user@corp.com");
+
+        // when
+        EmailValidationReport report = service.validate(emails);
+
+        // then: the slow ones are unresolved, but the fast one got its answer
+        assertEquals(Status.UNRESOLVED, report.results().get(0).status());
+        assertEquals(Status.VALID, report.results().get(emails.size() - 1).status());
+        assertEquals(1, lookups.get("corp.com").get());
+    }
+
+    /**
+     * A batch gives up at its deadline: domains that found no free slot by then are unresolved
+     * instead of keeping the caller waiting.
+     */
+    @Test
+    void domainsWithoutSlotByBatchTimeoutAreUnresolved() {
+        // given: a batch that may hold two slots, and more slow domains than that
+        lookup.shutdown();
+        props.getLookup().setBatchTimeout(Duration.ofMillis(300));
+        lookup = new AsyncMxLookup(this::countedSlow, props.getLookup().getTimeout(), 4, 2, null);
+        service = new EmailValidationService(cache, lookup, props);
+        List<String> emails = List.of("a@slow.d0.example", "b@slow.d1.example", "c@slow.d2.example", "d@corp.com");
+
+        // when
+        long start = System.nanoTime();
+        EmailValidationReport report = service.validate(emails);
+
+        // then: all are unresolved well before the slow queries finish, and only two were started
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+        report.results().forEach(verdict -> assertEquals(Status.UNRESOLVED, verdict.status()));
+        assertEquals(2, lookups.size());
+    }
+
+    private Boolean countedSlow(String domain) {
+        lookups.computeIfAbsent(domain, d -> new AtomicInteger()).incrementAndGet();
+        return slow();
+    }
+
+    private static Boolean slow() {
+        try {
+            Thread.sleep(2_000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+}
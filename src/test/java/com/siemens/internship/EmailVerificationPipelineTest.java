@@ -0,0 +1,124 @@
+package com.siemens.internship;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.model.EmailVerificationStatus;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.AsyncMxLookup;
+import com.siemens.internship.service.EmailValidationService;
+import com.siemens.internship.service.EmailVerificationPipeline;
+import com.siemens.internship.service.ItemChangeTracker;
+import com.siemens.internship.service.MxRecordCache;
+import com.siemens.internship.service.dns.InMemoryZoneMxResolver;
+import com.siemens.internship.service.dns.MxResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link EmailVerificationPipeline}, resolving against an in-memory zone.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailVerificationPipelineTest {
+
+    private static final EmailVerificationStatus PENDING = EmailVerificationStatus.PENDING;
+
+    @Mock
+    private ItemRepository repo;
+
+    @Mock
+    private ItemChangeTracker changes;
+
+    private final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>(); // Live lookups per domain
+    private final EmailValidationProperties props = new EmailValidationProperties();
+    private final TransactionOperations transactions = spy(TransactionOperations.withoutTransaction());
+    private AsyncMxLookup lookup;
+    private EmailVerificationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        MxResolver zone = new InMemoryZoneMxResolver(List.of("corp.com"), Duration.ZERO);
+        MxResolver counting = domain -> {
+            lookups.computeIfAbsent(domain, d -> new AtomicInteger()).incrementAndGet();
+            return domain.startsWith("down.") ? null : zone.hasMxRecord(domain);
+        };
+        lookup = new AsyncMxLookup(counting, Duration.ofSeconds(1), 4);
+        props.getDeferred().setBatchSize(3);
+        EmailValidationService validation = new EmailValidationService(new MxRecordCache(props.getCache()), lookup, props);
+        pipeline = new EmailVerificationPipeline(repo, validation, props, changes, transactions);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lookup.shutdown();
+    }
+
+    /**
+     * Pending items are settled per domain, page by page; unresolved domains stay pending.
+     */
+    @Test
+    void settlesPendingItemsPerDomain() {
+        // given: two pages of pending items over three domains
+        Item a = item(1L, "a@corp.com");
+        Item b = item(2L, "b@nomx.net");
+        Item c = item(3L, "c@CORP.com");
+        Item d = item(4L, "d@down.example");
+        when(repo.findByEmailVerificationAndIdGreaterThanOrderByIdAsc(eq(PENDING), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(a, b, c));
+        when(repo.findByEmailVerificationAndIdGreaterThanOrderByIdAsc(eq(PENDING), eq(3L), any(Pageable.class)))
+                .thenReturn(List.of(d));
+        when(repo.transitionEmailVerification(anyCollection(), anyCollection(), eq(PENDING), any()))
+                .thenAnswer(inv -> inv.getArgument(0, List.class).size());
+
+        // when
+        int settled = pipeline.verifyPending();
+
+        // then: one UPDATE per resolved domain, none for the unresolved one
+        assertEquals(3, settled);
+        verify(repo).transitionEmailVerification(List.of(1L, 3L), List.of("a@corp.com", "c@CORP.com"),
+                PENDING, EmailVerificationStatus.VERIFIED);
+        verify(repo).transitionEmailVerification(List.of(2L), List.of("b@nomx.net"),
+                PENDING, EmailVerificationStatus.UNDELIVERABLE);
+        verify(repo, times(2)).transitionEmailVerification(anyCollection(), anyCollection(), any(), any());
+        assertEquals(1, lookups.get("corp.com").get());
+        verify(transactions, times(2)).execute(any(TransactionCallback.class));   // one per page
+        verify(changes).changed();   // once for the first page; the second settled nothing
+    }
+
+    /**
+     * Without pending items nothing is looked up or updated.
+     */
+    @Test
+    void idleRunDoesNothing() {
+        when(repo.findByEmailVerificationAndIdGreaterThanOrderByIdAsc(eq(PENDING), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        assertEquals(0, pipeline.verifyPending());
+        verify(repo, never()).transitionEmailVerification(anyCollection(), anyCollection(), any(), any());
+        assertTrue(lookups.isEmpty());
+        verify(transactions, never()).execute(any(TransactionCallback.class));
+        verify(changes, never()).changed();
+    }
+
+    private static Item item(Long id, String email) {
+        Item item = new Item(id, "n", "d", "NEW", email);
+        item.setEmailVerification(PENDING);
+        return item;
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.validation.Path;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -177,6 +178,26 @@ class GlobalExceptionHandlerTest {
         assertEquals("/conflict", body.path());
     }
 
+    /**
+     * Test that a write of a stale version is reported as 412 without leaking persistence details.
+     */
+    @Test
+    void handleOptimisticLock() {
+        var ex = new OptimisticLockingFailureException("Row was updated or deleted by another transaction");
+        var req = new ServletWebRequest(new MockHttpServletRequest("PUT", "/api/items/1"));
+
+        var responseEntity = handler.handleOptimisticLock(ex, req);
+        var body = (ErrorResponse) responseEntity.getBody();
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, responseEntity.getStatusCode());
+        assertEquals("Precondition Failed", body.error());
+        assertEquals(
+                List.of("Resource was modified concurrently; fetch it again and retry"),
+                body.messages()
+        );
+        assertEquals("/api/items/1", body.path());
+    }
+
     /**
      * Test handling of ResponseStatusException with a custom reason message.
      */
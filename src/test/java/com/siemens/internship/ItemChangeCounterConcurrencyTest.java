@@ -0,0 +1,67 @@
+package com.siemens.internship;
+
+import com.siemens.internship.repository.ItemChangeCounterRepository;
+import com.siemens.internship.service.ItemChangeCounterService;
+import com.siemens.internship.service.ItemChangeTracker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test proving that concurrent first writes against a freshly created counter
+ * row are all counted, so the collection ETag moves with every committed write.
+ */
+@SpringBootTest
+class ItemChangeCounterConcurrencyTest {
+
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private ItemChangeCounterRepository repo;
+
+    @Autowired
+    private ItemChangeCounterService counter;   // Real, proxied service
+
+    @Autowired
+    private ItemChangeTracker tracker;
+
+    @Test
+    void concurrentFirstWritesAreAllCounted() throws Exception {
+        // given: the counter row as a fresh start creates it
+        repo.deleteAll();
+        counter.afterSingletonsInstantiated();
+        assertEquals(0L, tracker.current());
+
+        // when: several writers record their first change at the same moment
+        CyclicBarrier barrier = new CyclicBarrier(WRITERS);
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                done.add(writers.submit(() -> {
+                    barrier.await(5, TimeUnit.SECONDS);
+                    tracker.changed();
+                    return null;
+                }));
+            }
+            for (Future<?> writer : done) {
+                writer.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+
+        // then: no increment was lost
+        assertEquals(WRITERS, tracker.current());
+    }
+}
@@ -0,0 +1,91 @@
+package com.siemens.internship;
+
+import com.siemens.internship.service.ItemChangeCounterService;
+import com.siemens.internship.service.ItemChangeTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ItemChangeTracker}: the counter moves once per committed
+ * transaction that wrote items, and never before the commit.
+ */
+@ExtendWith(MockitoExtension.class)
+class ItemChangeTrackerTest {
+
+    @Mock
+    private ItemChangeCounterService counter; // Mocked counter persistence
+
+    @InjectMocks
+    private ItemChangeTracker tracker;        // Tracker under test
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * Outside a transaction the write has already committed, so the counter moves at once.
+     */
+    @Test
+    void countsImmediatelyWithoutTransaction() {
+        tracker.changed();
+
+        verify(counter).increment();
+    }
+
+    /**
+     * Inside a transaction the counter moves once, after commit, however many writes it made.
+     */
+    @Test
+    void countsOnceAfterCommit() {
+        // given: an active transaction
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when: several writes report a change
+        tracker.changed();
+        tracker.changed();
+
+        // then: nothing is counted before the commit, and exactly one advance after it
+        verify(counter, never()).increment();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        verify(counter).increment();
+    }
+
+    /**
+     * A rolled-back transaction changed nothing, so the counter stays put.
+     */
+    @Test
+    void rollbackIsNotCounted() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        tracker.changed();
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(counter, never()).increment();
+    }
+
+    /**
+     * The write has committed by the time the counter moves, so a counter failure is not rethrown.
+     */
+    @Test
+    void counterFailureDoesNotFailTheWrite() {
+        doThrow(new QueryTimeoutException("locked")).when(counter).increment();
+
+        assertDoesNotThrow(tracker::changed);
+    }
+}
@@ -3,32 +3,63 @@ package com.siemens.internship;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.siemens.internship.controller.GlobalExceptionHandler;
 import com.siemens.internship.controller.ItemController;
+import com.siemens.internship.model.ChunkResult;
+import com.siemens.internship.model.ChunkedProcessingReport;
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemField;
+import com.siemens.internship.model.ItemFilter;
+import com.siemens.internship.model.ItemPage;
 import com.siemens.internship.model.ItemRequest;
+import com.siemens.internship.model.ProcessingJobStatus;
+import com.siemens.internship.model.ProcessingSummary;
+import com.siemens.internship.service.AsyncMxLookup;
+import com.siemens.internship.service.EmailVerification;
+import com.siemens.internship.service.ItemProcessingListener;
 import com.siemens.internship.service.ItemService;
-import com.siemens.internship.service.ValidEmail;
+import com.siemens.internship.service.ProcessingJobService;
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.config.EmailValidationProperties.Mode;
+import com.siemens.internship.config.EmailValidationProperties.UnresolvedPolicy;
+import com.siemens.internship.service.MxRecordCache;
 import com.siemens.internship.service.ValidEmailValidator;
+import com.siemens.internship.service.dns.InMemoryZoneMxResolver;
+import com.siemens.internship.service.dns.MxResolver;
 import jakarta.validation.ConstraintValidator;
-import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.executable.ExecutableValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,16 +68,26 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Unit tests for {@link ItemController}.
  *
  * <p>Verifies all CRUD and asynchronous processing endpoints using MockMvc.
- * Integrates a stubbed email validator and the global exception handler.</p>
+ * Integrates an email validator backed by an in-memory DNS zone and the global exception handler.</p>
  */
 class ItemControllerTest {
 
     @Mock
     private ItemService service; // Mock the service layer
 
+    @Mock
+    private ProcessingJobService jobs; // Mock the background job service
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper(); // Mapper for streamed item lists
+
     @InjectMocks
     private ItemController controller; // Controller under test
 
+    /** Offline DNS zone: the domains used by the tests publish MX records. */
+    private static final MxResolver MAIL_ZONE = new InMemoryZoneMxResolver(
+            List.of("b.com", "d.com", "e.com", "f.com", "y.com"), Duration.ZERO);
+
     private MockMvc mvc; // MockMvc instance for HTTP simulation
     private final ObjectMapper om = new ObjectMapper(); // JSON (de)serializer
 
@@ -58,19 +99,22 @@ class ItemControllerTest {
         // Initialize Mockito annotations (@Mock, @InjectMocks)
         MockitoAnnotations.openMocks(this);
 
-        // Create factory to inject stubbed ValidEmailValidator,
-        // and instantiate other validators normally
+        // Real format and MX checks, answered offline
+        mvc = buildMvc(new ValidEmailValidator(
+                new MxRecordCache(new EmailValidationProperties.Cache()),
+                MAIL_ZONE, UnresolvedPolicy.REJECT));
+    }
+
+    /**
+     * Build MockMvc with controller, global exception handling, and the given email validator.
+     */
+    private MockMvc buildMvc(ValidEmailValidator emailValidator) {
+        // Create factory to inject the ValidEmailValidator, and instantiate other validators normally
         ConstraintValidatorFactory factory = new ConstraintValidatorFactory() {
             @Override
             public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
                 if (ValidEmailValidator.class.equals(key)) {
-                    // Stubbed validator: always return true for email checks
-                    return (T) new ConstraintValidator<ValidEmail, String>() {
-                        @Override public void initialize(ValidEmail ann) {}
-                        @Override public boolean isValid(String value, ConstraintValidatorContext ctx) {
-                            return true; // accept any email format
-                        }
-                    };
+                    return (T) emailValidator;
                 }
                 // Default instantiation for other validators
                 try {
@@ -92,7 +136,7 @@ class ItemControllerTest {
         validator.afterPropertiesSet(); // initialize validator bean
 
         // Build MockMvc with controller, global exception handling, and validator
-        mvc = MockMvcBuilders
+        return MockMvcBuilders
                 .standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setValidator(validator)
@@ -109,7 +153,7 @@ class ItemControllerTest {
                 new Item(1L, "n1", "d1", "NEW", "a@b.com"),
                 new Item(2L, "n2", "d2", "NEW", "c@d.com")
         );
-        when(service.findAll()).thenReturn(items);
+        when(service.findAll(ItemFilter.NONE)).thenReturn(items);
 
         // When/Then: perform GET and verify response structure and content
         mvc.perform(get("/api/items"))
@@ -119,6 +163,215 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[1].email").value("c@d.com"));
     }
 
+    /**
+     * GET /api/items with Accept: application/x-ndjson writes one JSON line per item
+     * as the service hands the items over.
+     */
+    @Test
+    void streamAllWritesNdjsonLines() throws Exception {
+        // Given two items handed over by the streaming scan
+        stubStreamAll(new Item(1L, "n1", "d1", "NEW", "a@b.com"), new Item(2L, "n2", null, "NEW", "c@d.com"));
+
+        // When: the list is requested as NDJSON
+        MvcResult result = mvc.perform(get("/api/items").accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then: each item is one newline-terminated line
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.endsWith("\n"));
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1, om.readTree(lines[0]).get("id").asInt());
+        assertEquals("c@d.com", om.readTree(lines[1]).get("email").asText());
+        verify(service, never()).findAll();
+    }
+
+    /**
+     * GET /api/items?stream=true writes the same JSON array as GET /api/items, element by element.
+     */
+    @Test
+    void streamAllWritesJsonArray() throws Exception {
+        // Given two items handed over by the streaming scan
+        stubStreamAll(new Item(1L, "n1", "d1", "NEW", "a@b.com"), new Item(2L, "n2", "d2", "NEW", "c@d.com"));
+
+        // When: the streamed array is requested
+        MvcResult result = mvc.perform(get("/api/items").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then: the body is a JSON array of both items
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].email").value("c@d.com"));
+        verify(service, never()).findAll();
+    }
+
+    /**
+     * GET /api/items?stream=true on an empty table writes an empty JSON array.
+     */
+    @Test
+    void streamAllWritesEmptyJsonArray() throws Exception {
+        stubStreamAll();
+
+        MvcResult result = mvc.perform(get("/api/items").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("[]"));
+    }
+
+    /**
+     * GET /api/items with Accept: application/x-ndjson and filters streams only the matching
+     * items, through the same filter as the non-streaming read.
+     */
+    @Test
+    void streamAllAsNdjsonAppliesFilters() throws Exception {
+        stubStreamAll(new Item(1L, "n1", "d1", "NEW", "a@example.com"));
+
+        MvcResult result = mvc.perform(get("/api/items").accept("application/x-ndjson")
+                        .param("status", "NEW").param("emailDomain", "@Example.com"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        assertEquals(1, result.getResponse().getContentAsString().split("\n").length);
+        verify(service).streamAll(eq(new ItemFilter("NEW", "example.com")), any());
+    }
+
+    /**
+     * GET /api/items?stream=true&status=... streams only the items with that status.
+     */
+    @Test
+    void streamAllAsJsonArrayAppliesFilters() throws Exception {
+        stubStreamAll(new Item(2L, "n2", "d2", "DONE", "c@d.com"));
+
+        MvcResult result = mvc.perform(get("/api/items").param("stream", "true").param("status", "DONE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].status").value("DONE"));
+        verify(service).streamAll(eq(ItemFilter.of("DONE", null)), any());
+    }
+
+    /**
+     * GET /api/items with Accept: application/x-ndjson and fields streams only those fields
+     * (plus id and version) of each item, from the projected scan.
+     */
+    @Test
+    void streamAllAsNdjsonAppliesFields() throws Exception {
+        Set<ItemField> fields = EnumSet.of(ItemField.ID, ItemField.NAME, ItemField.VERSION);
+        when(service.streamAll(eq(ItemFilter.NONE), eq(fields), any())).thenAnswer(inv -> {
+            Consumer<Map<String, Object>> action = inv.getArgument(2);
+            action.accept(Map.of("id", 1L, "name", "n1", "version", 0L));
+            return 1L;
+        });
+
+        MvcResult result = mvc.perform(get("/api/items").accept("application/x-ndjson").param("fields", "id,name"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        Map<?, ?> line = om.readValue(result.getResponse().getContentAsString().trim(), Map.class);
+        assertEquals(Set.of("id", "name", "version"), line.keySet());
+        verify(service, never()).streamAll(any(ItemFilter.class), any());
+    }
+
+    /**
+     * GET /api/items?stream=true&fields=... streams a JSON array of the selected fields, and
+     * rejects an unknown field with 400 before streaming starts.
+     */
+    @Test
+    void streamAllAsJsonArrayAppliesFields() throws Exception {
+        Set<ItemField> fields = EnumSet.of(ItemField.ID, ItemField.STATUS, ItemField.VERSION);
+        when(service.streamAll(eq(ItemFilter.of("NEW", null)), eq(fields), any())).thenAnswer(inv -> {
+            Consumer<Map<String, Object>> action = inv.getArgument(2);
+            action.accept(Map.of("id", 1L, "status", "NEW", "version", 0L));
+            return 1L;
+        });
+
+        MvcResult result = mvc.perform(get("/api/items")
+                        .param("stream", "true").param("status", "NEW").param("fields", "status"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].status").value("NEW"))
+                .andExpect(jsonPath("$[0].name").doesNotExist());
+
+        mvc.perform(get("/api/items").param("stream", "true").param("fields", "secret"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /** Make the service's streaming scan hand over the given items. */
+    private void stubStreamAll(Item... items) {
+        when(service.streamAll(any(ItemFilter.class), any())).thenAnswer(inv -> {
+            Consumer<Item> action = inv.getArgument(1);
+            for (Item item : items) {
+                action.accept(item);
+            }
+            return (long) items.length;
+        });
+    }
+
+    /**
+     * GET /api/items?limit=N returns one page and links the next one with an opaque cursor,
+     * which resumes after the last item of the page.
+     */
+    @Test
+    void getPageLinksNextPageWithCursor() throws Exception {
+        // Given a first page that is followed by more items
+        List<Item> first = List.of(
+                new Item(1L, "n1", "d1", "NEW", "a@b.com"),
+                new Item(2L, "n2", "d2", "NEW", "c@d.com"));
+        when(service.findPage(ItemFilter.NONE, 0L, 2)).thenReturn(new ItemPage<>(first, 2L));
+        when(service.findPage(ItemFilter.NONE, 2L, 2)).thenReturn(new ItemPage<>(List.of(new Item(3L, "n3", "d3", "NEW", "e@f.com")), null));
+
+        // When: the first page is requested
+        MvcResult result = mvc.perform(get("/api/items").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[1].id").value(2))
+                .andExpect(header().string("Link", matchesPattern("<http://localhost/api/items\\?limit=2&after=[\\w-]+>; rel=\"next\"")))
+                .andReturn();
+
+        // Then: following the next link returns the last page, without a further link
+        String link = result.getResponse().getHeader("Link");
+        String next = link.substring(link.indexOf("/api"), link.indexOf('>'));
+        mvc.perform(get(URI.create(next)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    /**
+     * GET /api/items?limit=N with a cursor that was not issued by the API returns HTTP 400.
+     */
+    @Test
+    void getPageRejectsInvalidCursor() throws Exception {
+        mvc.perform(get("/api/items").param("limit", "2").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.messages[0]").value("Invalid cursor"));
+
+        verify(service, never()).findPage(any(), anyLong(), anyInt());
+    }
+
     /**
      * GET /api/items/{id} for existing item should return HTTP 200 and the item JSON.
      */
@@ -133,6 +386,115 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.name").value("n"));
     }
 
+    /**
+     * GET /api/items?fields=status returns only the id and the requested field of each item.
+     */
+    @Test
+    void getAllWithFieldsReturnsSparseFieldsets() throws Exception {
+        when(service.findAll(ItemFilter.NONE, EnumSet.of(ItemField.ID, ItemField.STATUS, ItemField.VERSION)))
+                .thenReturn(List.of(Map.of("id", 1L, "status", "NEW"), Map.of("id", 2L, "status", "PROCESSED")));
+
+        mvc.perform(get("/api/items").param("fields", "status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[1].status").value("PROCESSED"))
+                .andExpect(jsonPath("$[0].name").doesNotExist());
+        verify(service, never()).findAll(any(ItemFilter.class));
+    }
+
+    /**
+     * GET /api/items?status=..&emailDomain=.. passes a normalised filter to the service:
+     * the domain is lower-cased and may carry a leading '@'.
+     */
+    @Test
+    void getAllWithFiltersReturnsMatchingItems() throws Exception {
+        when(service.findAll(new ItemFilter("NEW", "example.com")))
+                .thenReturn(List.of(new Item(7L, "n", "d", "NEW", "x@example.com")));
+
+        mvc.perform(get("/api/items").param("status", "NEW").param("emailDomain", "@Example.COM"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].id").value(7))
+                .andExpect(jsonPath("$[0].emailDomain").doesNotExist());
+    }
+
+    /**
+     * GET /api/items/{id}?fields=id,email returns only those fields; unknown fields are rejected with 400.
+     */
+    @Test
+    void getByIdWithFields() throws Exception {
+        when(service.findById(1L, EnumSet.of(ItemField.ID, ItemField.EMAIL, ItemField.VERSION)))
+                .thenReturn(Optional.of(Map.of("id", 1L, "email", "x@y.com", "version", 2L)));
+
+        mvc.perform(get("/api/items/1").param("fields", "id,email"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.email").value("x@y.com"))
+                .andExpect(jsonPath("$.description").doesNotExist());
+
+        mvc.perform(get("/api/items/1").param("fields", "id,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.messages[0]").value("Unknown field: secret"));
+    }
+
+    /**
+     * GET /api/items/{id} tags the item with its version; a matching If-None-Match is answered
+     * with 304 and no body, from the version alone, without loading the item.
+     */
+    @Test
+    void getByIdIsConditionalOnVersion() throws Exception {
+        // Given an item at version 3
+        Item item = new Item(1L, "n", "d", "NEW", "x@y.com");
+        item.setVersion(3L);
+        when(service.findById(1L)).thenReturn(Optional.of(item));
+        when(service.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+        // When/Then: an unconditional GET returns the strong ETag
+        mvc.perform(get("/api/items/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+
+        // When/Then: revalidating with the current tag (even weakly) answers 304 without loading the item
+        mvc.perform(get("/api/items/1").header("If-None-Match", "\"2\", W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+        verify(service, times(1)).findById(1L);
+
+        // When/Then: a stale tag gets the full item
+        mvc.perform(get("/api/items/1").header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    /**
+     * GET /api/items is tagged with the table-wide change counter; while it is unchanged,
+     * revalidation is answered with 304 without reading any item.
+     */
+    @Test
+    void getAllIsConditionalOnChangeCounter() throws Exception {
+        // Given a change counter at 5
+        when(service.changeCount()).thenReturn(5L);
+        when(service.findAll(ItemFilter.NONE)).thenReturn(List.of());
+
+        // When/Then: the list carries the collection ETag
+        mvc.perform(get("/api/items"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"items-5\""));
+
+        // When/Then: revalidating with it reads nothing
+        mvc.perform(get("/api/items").header("If-None-Match", "\"items-5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(service, times(1)).findAll(ItemFilter.NONE);
+
+        // When/Then: after a write the counter moves on and the list is sent again
+        when(service.changeCount()).thenReturn(6L);
+        mvc.perform(get("/api/items").header("If-None-Match", "\"items-5\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"items-6\""));
+    }
+
     /**
      * GET /api/items/{id} when item not found should return HTTP 404 with error payload.
      */
@@ -148,18 +510,20 @@ class ItemControllerTest {
     }
 
     /**
-     * POST /api/items with valid payload should return HTTP 201 and created item.
+     * POST /api/items with valid payload should return HTTP 201 and created item, tagged with its version.
      */
     @Test
     void postValidItemReturns201() throws Exception {
         ItemRequest req = new ItemRequest("A", "d", "NEW", "ok@e.com");
         Item saved = new Item(1L, "A", "d", "NEW", "ok@e.com");
+        saved.setVersion(0L);
         when(service.save(any())).thenReturn(saved);
 
         mvc.perform(post("/api/items")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(om.writeValueAsString(req)))
                 .andExpect(status().isCreated())
+                .andExpect(header().string("ETag", "\"0\""))
                 .andExpect(jsonPath("$.id").value(1));
     }
 
@@ -173,7 +537,7 @@ class ItemControllerTest {
                 "",                 // empty name invalid
                 "d".repeat(300),    // description exceeds max length
                 "BAD",              // status not in enum
-                "x"                 // email format stubbed as valid
+                "x@e.com"           // deliverable email (MX in the in-memory zone)
         );
 
         mvc.perform(post("/api/items")
@@ -184,6 +548,63 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.messages", hasSize(3)));
     }
 
+    /**
+     * POST /api/items with an email whose domain has no MX record is rejected (HTTP 400).
+     */
+    @Test
+    void postUndeliverableEmail() throws Exception {
+        ItemRequest req = new ItemRequest("A", "d", "NEW", "user@nomail.example");
+
+        mvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(req)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.messages", hasSize(1)));
+        verify(service, never()).save(any());
+    }
+
+    /**
+     * POST /api/items with a checked email stores the item as verified.
+     */
+    @Test
+    void postStoresVerifiedEmail() throws Exception {
+        ItemRequest req = new ItemRequest("A", "d", "NEW", "ok@e.com");
+        when(service.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        mvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(EmailVerification.HEADER))
+                .andExpect(jsonPath("$.emailVerification").value("VERIFIED"));
+    }
+
+    /**
+     * In deferred mode POST /api/items checks only the format: an address without MX records
+     * is stored as pending, and malformed ones are still rejected.
+     */
+    @Test
+    void postInDeferredModeStoresPendingEmail() throws Exception {
+        EmailValidationProperties props = new EmailValidationProperties();
+        props.setMode(Mode.DEFERRED);
+        MockMvc deferred = buildMvc(new ValidEmailValidator(
+                mock(MxRecordCache.class), mock(AsyncMxLookup.class), props));
+        when(service.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        deferred.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(new ItemRequest("A", "d", "NEW", "user@nomail.example"))))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(EmailVerification.HEADER, EmailVerification.UNVERIFIED))
+                .andExpect(jsonPath("$.emailVerification").value("PENDING"));
+
+        deferred.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(new ItemRequest("A", "d", "NEW", "not-an-email"))))
+                .andExpect(status().isBadRequest());
+        verify(service, times(1)).save(any());
+    }
+
     /**
      * POST /api/items with duplicate email causes DB constraint violation (HTTP 409).
      */
@@ -219,6 +640,59 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.name").value("new"));
     }
 
+    /**
+     * PUT /api/items/{id} with If-Match applies only to the version the client saw, and
+     * returns the new version as the ETag.
+     */
+    @Test
+    void updateIsConditionalOnIfMatch() throws Exception {
+        // Given an item at version 2
+        Item existing = new Item(1L, "old", "d", "NEW", "a@b.com");
+        existing.setVersion(2L);
+        Item updated = new Item(1L, "new", "d2", "PROCESSED", "a@b.com");
+        updated.setVersion(3L);
+        ItemRequest req = new ItemRequest("new", "d2", "PROCESSED", "a@b.com");
+        when(service.findById(1L)).thenReturn(Optional.of(existing));
+        when(service.save(any())).thenReturn(updated);
+
+        // When/Then: a stale (or weak) tag is rejected before anything is written
+        mvc.perform(put("/api/items/1").header("If-Match", "\"1\", W/\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(req)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.messages[0]").value("Item was modified; fetch it again and retry"));
+        verify(service, never()).save(any());
+
+        // When/Then: the current tag applies the update
+        mvc.perform(put("/api/items/1").header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(req)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.name").value("new"));
+    }
+
+    /**
+     * PUT /api/items/{id} racing another writer between read and save returns 412 rather
+     * than overwriting the other write.
+     */
+    @Test
+    void updateRacingAnotherWriterIsRejected() throws Exception {
+        // Given the row changes after it was read
+        Item existing = new Item(1L, "old", "d", "NEW", "a@b.com");
+        existing.setVersion(2L);
+        ItemRequest req = new ItemRequest("new", "d2", "PROCESSED", "a@b.com");
+        when(service.findById(1L)).thenReturn(Optional.of(existing));
+        when(service.save(any())).thenThrow(new ObjectOptimisticLockingFailureException(Item.class, 1L));
+
+        // When/Then
+        mvc.perform(put("/api/items/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(req)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("Precondition Failed"));
+    }
+
     /**
      * PUT /api/items/{id} for non-existing item returns HTTP 404.
      */
@@ -247,6 +721,29 @@ class ItemControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    /**
+     * DELETE /api/items/{id} with If-Match deletes only at the expected version; a stale
+     * tag returns 412, and {@code *} deletes unconditionally.
+     */
+    @Test
+    void deleteIsConditionalOnIfMatch() throws Exception {
+        // Given the item exists at version 4
+        when(service.existsById(3L)).thenReturn(true);
+        when(service.deleteByIdAndVersion(3L, List.of(4L))).thenReturn(true);
+        when(service.deleteByIdAndVersion(3L, List.of(3L))).thenReturn(false);
+
+        // When/Then
+        mvc.perform(delete("/api/items/3").header("If-Match", "\"3\""))
+                .andExpect(status().isPreconditionFailed());
+        mvc.perform(delete("/api/items/3").header("If-Match", "\"4\""))
+                .andExpect(status().isNoContent());
+        verify(service, never()).deleteById(3L);
+
+        mvc.perform(delete("/api/items/3").header("If-Match", "*"))
+                .andExpect(status().isNoContent());
+        verify(service).deleteById(3L);
+    }
+
     /**
      * DELETE /api/items/{id} for non-existing item returns HTTP 404.
      */
@@ -282,4 +779,206 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].status").value("PROCESSED"));
     }
+
+    /**
+     * GET /api/items/process with Accept: text/event-stream streams one event per item,
+     * then the summary.
+     */
+    @Test
+    void processItemsStreamsServerSentEvents() throws Exception {
+        stubStreamingRun();
+
+        MvcResult result = mvc.perform(get("/api/items/process")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("event:processed"), body);
+        assertTrue(body.contains("event:failed"), body);
+        assertTrue(body.contains("event:summary"), body);
+        assertTrue(body.indexOf("event:processed") < body.indexOf("event:summary"), body);
+        verify(service, never()).processItemsAsync();
+    }
+
+    /**
+     * GET /api/items/process with Accept: application/x-ndjson streams one JSON line per item,
+     * then the summary.
+     */
+    @Test
+    void processItemsStreamsNdjson() throws Exception {
+        stubStreamingRun();
+
+        MvcResult result = mvc.perform(get("/api/items/process")
+                        .accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals("application/x-ndjson", result.getResponse().getContentType());
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("processed", om.readTree(lines[0]).get("type").asText());
+        assertEquals(1, om.readTree(lines[0]).get("item").get("id").asInt());
+        assertEquals("boom", om.readTree(lines[1]).get("error").asText());
+        assertEquals(1, om.readTree(lines[2]).get("summary").get("processed").asInt());
+    }
+
+    /**
+     * Stub a background run that reports one processed and one failed item.
+     */
+    private void stubStreamingRun() {
+        when(jobs.processInBackground(any())).thenAnswer(inv -> {
+            ItemProcessingListener listener = inv.getArgument(0);
+            listener.onProcessed(new Item(1L, "a", "d", "PROCESSED", "a@b.com"));
+            listener.onFailed(2L, new RuntimeException("boom"));
+            return CompletableFuture.completedFuture(new ProcessingSummary(1, 1, 5, List.of(2L)));
+        });
+    }
+
+    /**
+     * GET /api/items/process?result=summary returns only counts and failed ids (HTTP 200);
+     * the scan is handed to the job executor rather than run on the request thread.
+     */
+    @Test
+    void processItemsSummaryReturnsCountsOnly() throws Exception {
+        when(jobs.processInBackground(ItemProcessingListener.NONE))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new ProcessingSummary(9, 1, 42, List.of(7L))));
+
+        MvcResult result = mvc.perform(get("/api/items/process").param("result", "summary"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(9))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.durationMs").value(42))
+                .andExpect(jsonPath("$.failedIds[0]").value(7));
+        verify(service, never()).processItemsAsync();
+        verify(service, never()).processItemsSummaryAsync();
+    }
+
+    /**
+     * GET /api/items/process?mode=chunked returns the per-chunk report (HTTP 200).
+     */
+    @Test
+    void processItemsInChunksReturnsReport() throws Exception {
+        ChunkedProcessingReport report = ChunkedProcessingReport.of(100, List.of(
+                ChunkResult.succeeded(0, 1L, 100L, 100, 100),
+                ChunkResult.failed(1, 101L, 150L, 50, new RuntimeException("boom"))
+        ));
+        when(service.processItemsInChunksAsync(100))
+                .thenReturn(CompletableFuture.completedFuture(report));
+
+        MvcResult result = mvc.perform(get("/api/items/process")
+                        .param("mode", "chunked")
+                        .param("chunkSize", "100"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.chunks").value(2))
+                .andExpect(jsonPath("$.processed").value(100))
+                .andExpect(jsonPath("$.failed").value(50))
+                .andExpect(jsonPath("$.results[1].success").value(false))
+                .andExpect(jsonPath("$.results[1].error").value("boom"));
+    }
+
+    /**
+     * A chunk size above the cap violates the parameter constraints, for immediate runs and
+     * background jobs alike; the controller's method validation turns that into 400.
+     */
+    @Test
+    void processingRejectsOversizedChunks() throws NoSuchMethodException {
+        ExecutableValidator validator = Validation.buildDefaultValidatorFactory().getValidator().forExecutables();
+        Method chunked = ItemController.class.getMethod("processItemsInChunks", Integer.class);
+        Method submit = ItemController.class.getMethod("submitProcessingJob", Integer.class, String.class);
+
+        assertEquals(1, validator.validateParameters(controller, chunked, new Object[]{5001}).size());
+        assertEquals(1, validator.validateParameters(controller, submit, new Object[]{5001, null}).size());
+        assertTrue(validator.validateParameters(controller, chunked, new Object[]{5000}).isEmpty());
+        assertTrue(validator.validateParameters(controller, chunked, new Object[]{null}).isEmpty());
+    }
+
+    /**
+     * POST /api/items/process starts a job and returns 202 with its status and location.
+     */
+    @Test
+    void submitProcessingJobReturnsAccepted() throws Exception {
+        when(jobs.submit(null, null)).thenReturn(jobStatus("job-1", ProcessingJobStatus.State.RUNNING));
+
+        mvc.perform(post("/api/items/process"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", org.hamcrest.Matchers.endsWith("/api/items/process/job-1")))
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+    }
+
+    /**
+     * GET /api/items/process/{jobId} returns progress, or 404 for unknown jobs.
+     */
+    @Test
+    void getProcessingJobReturnsStatusOrNotFound() throws Exception {
+        when(jobs.status("job-1"))
+                .thenReturn(Optional.of(jobStatus("job-1", ProcessingJobStatus.State.RUNNING)));
+        when(jobs.status("missing")).thenReturn(Optional.empty());
+
+        mvc.perform(get("/api/items/process/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(4))
+                .andExpect(jsonPath("$.remaining").value(6))
+                .andExpect(jsonPath("$.etaSeconds").value(3));
+
+        mvc.perform(get("/api/items/process/missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.messages[0]").value("Job not found"));
+    }
+
+    /**
+     * DELETE /api/items/process/{jobId} cancels a running job; finished jobs yield 409.
+     */
+    @Test
+    void cancelProcessingJob() throws Exception {
+        when(jobs.cancel("job-1"))
+                .thenReturn(Optional.of(jobStatus("job-1", ProcessingJobStatus.State.RUNNING)));
+        when(jobs.cancel("done"))
+                .thenThrow(new IllegalStateException("Job done has already finished"));
+
+        mvc.perform(delete("/api/items/process/job-1"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").value("job-1"));
+
+        mvc.perform(delete("/api/items/process/done"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.messages[0]").value("Job done has already finished"));
+    }
+
+    /**
+     * POST /api/items/process?jobId=... resumes a job; completed jobs yield 409.
+     */
+    @Test
+    void resubmitProcessingJob() throws Exception {
+        when(jobs.submit(null, "job-1"))
+                .thenReturn(jobStatus("job-1", ProcessingJobStatus.State.RUNNING));
+        when(jobs.submit(null, "done"))
+                .thenThrow(new IllegalStateException("Job done has already completed"));
+
+        mvc.perform(post("/api/items/process").param("jobId", "job-1"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", org.hamcrest.Matchers.endsWith("/api/items/process/job-1")))
+                .andExpect(jsonPath("$.lastCommittedId").value(4));
+
+        mvc.perform(post("/api/items/process").param("jobId", "done"))
+                .andExpect(status().isConflict());
+    }
+
+    /**
+     * Build a job status snapshot with fixed counters.
+     */
+    private static ProcessingJobStatus jobStatus(String id, ProcessingJobStatus.State state) {
+        return new ProcessingJobStatus(id, state, 10, 4, 0, 6, 4L,
+                Instant.parse("2025-05-07T10:00:00Z"), null, 2.0, 3L);
+    }
 }
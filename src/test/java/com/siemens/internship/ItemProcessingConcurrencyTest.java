@@ -0,0 +1,94 @@
+package com.siemens.internship;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ChunkProgressListener;
+import com.siemens.internship.service.ItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration test proving that {@link ItemService#processItemsAsync()} really
+ * fans items out to the processing executor through the Spring proxy, and that the
+ * chunked scan reads its pages outside of a long-lived transaction.
+ *
+ * <p>Every save waits on a barrier sized to the number of items, so the run can
+ * only succeed if all items are in flight at the same time.</p>
+ */
+@SpringBootTest(properties = "items.processing.pool-size=4")
+class ItemProcessingConcurrencyTest {
+
+    @MockBean
+    private ItemRepository repo;   // Replaces the JPA repository in the context
+
+    @Autowired
+    private ItemService service;   // Real, proxied service under test
+
+    @Test
+    void processItemsAsyncRunsItemsConcurrently() throws Exception {
+        List<Item> items = List.of(
+                new Item(1L, "a", "d", "NEW", "a@b.com"),
+                new Item(2L, "b", "d", "NEW", "c@d.com"),
+                new Item(3L, "c", "d", "NEW", "e@f.com"),
+                new Item(4L, "d", "d", "NEW", "g@h.com")
+        );
+        when(repo.findByStatusIn(anyCollection())).thenReturn(items);
+
+        CyclicBarrier barrier = new CyclicBarrier(items.size());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        // Each save blocks until every item has reached it
+        when(repo.save(any(Item.class))).thenAnswer(inv -> {
+            threads.add(Thread.currentThread().getName());
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return inv.getArgument(0);
+        });
+
+        List<Item> result = service.processItemsAsync().get(10, TimeUnit.SECONDS);
+
+        assertEquals(items.size(), result.size(), "all items should be processed");
+        assertEquals(items.size(), maxInFlight.get(), "all items should be in flight at once");
+        assertTrue(threads.stream().allMatch(t -> t.startsWith("item-processing-")),
+                () -> "work should run on the processing executor, got " + threads);
+    }
+
+    @Test
+    void chunkedScanReadsPagesOutsideOfATransaction() throws Exception {
+        AtomicBoolean scannedInTransaction = new AtomicBoolean();
+        when(repo.findIdsByStatusAfter(anyCollection(), anyLong(), any(Pageable.class))).thenAnswer(inv -> {
+            scannedInTransaction.compareAndSet(false, TransactionSynchronizationManager.isActualTransactionActive());
+            return List.of();
+        });
+
+        service.processItemsInChunksAsync(10).get(10, TimeUnit.SECONDS);
+        service.processItemsInChunksAsync(10, 0L, ChunkProgressListener.NONE).get(10, TimeUnit.SECONDS);
+
+        verify(repo, times(2)).findIdsByStatusAfter(anyCollection(), anyLong(), any(Pageable.class));
+        assertFalse(scannedInTransaction.get(), "no transaction should span the id scan");
+    }
+}
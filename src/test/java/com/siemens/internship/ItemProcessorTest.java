@@ -0,0 +1,122 @@
+package com.siemens.internship;
+
+import com.siemens.internship.config.ProcessingProperties;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ItemChangeTracker;
+import com.siemens.internship.service.ItemProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ItemProcessor}.
+ *
+ * <p>Exercises the processing unit directly, without the async proxy.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class ItemProcessorTest {
+
+    @Mock
+    private ItemRepository repo;       // Mocked repository dependency
+
+    @Spy
+    private ProcessingProperties props = new ProcessingProperties(); // Default transition policy
+
+    @Mock
+    private ItemChangeTracker changes; // Mocked table-wide change counter
+
+    @InjectMocks
+    private ItemProcessor processor;   // Processor under test
+
+    /**
+     * Tests that processAndSave() updates status and saves via repo.
+     */
+    @Test
+    void processAndSaveCompletesWithProcessedItem() throws Exception {
+        // given: an item to process
+        Item item = new Item(2L, "n", "d", "NEW", "j@k.com");
+        // stub repo.save to return the same item
+        when(repo.save(item)).thenAnswer(inv -> inv.getArgument(0));
+
+        // when: processor.processAndSave is invoked
+        CompletableFuture<Item> future = processor.processAndSave(item);
+
+        // then: future completes with status "PROCESSED" and repo.save called
+        Item result = future.get(1, TimeUnit.SECONDS);
+        assertEquals("PROCESSED", result.getStatus(),
+                "status should be updated to PROCESSED");
+        verify(repo).save(item);
+        verify(changes).changed();
+    }
+
+    /**
+     * Ensures processAndSave() returns an exceptional future on save error.
+     */
+    @Test
+    void processAndSaveReturnsExceptionalFutureOnError() {
+        // given: repo.save throws runtime exception
+        Item item = new Item(3L, "n", "d", "NEW", "l@m.com");
+        when(repo.save(item)).thenThrow(new RuntimeException("fail"));
+
+        // when: processor.processAndSave is called
+        CompletableFuture<Item> future = processor.processAndSave(item);
+
+        // then: future is completed exceptionally and get() throws
+        assertTrue(future.isCompletedExceptionally());
+        assertThrows(Exception.class, future::get);
+        verify(repo).save(item);
+        verify(changes, never()).changed();
+    }
+
+    /**
+     * Verifies processChunk() issues a single bulk transition from the eligible statuses.
+     */
+    @Test
+    void processChunkIssuesBulkTransition() throws Exception {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(repo.transitionStatus(ids, List.of("NEW"), "PROCESSED")).thenReturn(3);
+
+        assertEquals(3, processor.processChunk(ids).get(1, TimeUnit.SECONDS));
+        verify(repo).transitionStatus(ids, List.of("NEW"), "PROCESSED");
+        verifyNoMoreInteractions(repo);
+        verify(changes).changed();
+    }
+
+    /**
+     * Verifies a chunk whose items were all transitioned already does not count as a change.
+     */
+    @Test
+    void emptyChunkTransitionIsNotAChange() throws Exception {
+        when(repo.transitionStatus(List.of(5L), List.of("NEW"), "PROCESSED")).thenReturn(0);
+
+        assertEquals(0, processor.processChunk(List.of(5L)).get(1, TimeUnit.SECONDS));
+        verify(changes, never()).changed();
+    }
+
+    /**
+     * Verifies the configured transition policy is applied to both processing paths.
+     */
+    @Test
+    void configuredTransitionPolicyIsApplied() throws Exception {
+        props.setEligibleStatuses(List.of("NEW", "CANCELLED"));
+        props.setTargetStatus("CANCELLED");
+        Item item = new Item(4L, "n", "d", "NEW", "p@q.com");
+        when(repo.save(item)).thenAnswer(inv -> inv.getArgument(0));
+
+        assertEquals("CANCELLED", processor.processAndSave(item).get(1, TimeUnit.SECONDS).getStatus());
+
+        processor.processChunk(List.of(4L));
+        verify(repo).transitionStatus(List.of(4L), List.of("NEW", "CANCELLED"), "CANCELLED");
+    }
+}
@@ -0,0 +1,76 @@
+package com.siemens.internship;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.model.ItemRequest;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.MxRecordCache;
+import com.siemens.internship.service.dns.MxResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test proving that {@code ItemRequest} bodies are validated once, by the generated
+ * {@code ItemRequestValidator}, and not again by Hibernate Validator through method validation.
+ *
+ * <p>Both validators check {@code @ValidEmail} through the shared {@link MxRecordCache}, so a
+ * second pass would show up as a second cache lookup for the same request.</p>
+ */
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=servlet",   // InternshipApplicationTests may have set it to none
+        "email.validation.lookup.resolver=IN_MEMORY",
+        "email.validation.zone.mx-domains=example.com"
+})
+@AutoConfigureMockMvc
+class ItemRequestValidationPathTest {
+
+    @MockBean
+    private ItemRepository repo;   // Replaces the JPA repository in the context
+
+    @SpyBean
+    private MxRecordCache cache;   // Real cache, shared by every @ValidEmail check
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Test
+    void createValidatesBodyOnce() throws Exception {
+        when(repo.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        mvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(new ItemRequest("A", "d", "NEW", "user@example.com"))))
+                .andExpect(status().isCreated());
+
+        verify(cache, times(1)).resolve(anyString(), anyInt(), any(MxResolver.class));
+    }
+
+    @Test
+    void invalidUpdateIsRejectedByOnePass() throws Exception {
+        mvc.perform(put("/api/items/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(new ItemRequest("", "d", "NEW", "user@example.com"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"));
+
+        verify(cache, times(1)).resolve(anyString(), anyInt(), any(MxResolver.class));
+        verify(repo, never()).findById(any());
+    }
+}
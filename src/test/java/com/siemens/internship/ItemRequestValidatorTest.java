@@ -0,0 +1,114 @@
+package com.siemens.internship;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.config.EmailValidationProperties.UnresolvedPolicy;
+import com.siemens.internship.model.ItemRequest;
+import com.siemens.internship.model.ItemRequestValidator;
+import com.siemens.internship.service.MxRecordCache;
+import com.siemens.internship.service.ValidEmailValidator;
+import com.siemens.internship.service.dns.InMemoryZoneMxResolver;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the compile-time generated {@link ItemRequestValidator}: it must report
+ * exactly the field errors Hibernate Validator reports for the same request.
+ */
+class ItemRequestValidatorTest {
+
+    private Validator generated;   // Generated, reflection-free validator
+    private Validator reference;   // Hibernate Validator through Spring's adapter
+
+    @BeforeEach
+    void setUp() {
+        ValidEmailValidator email = new ValidEmailValidator(
+                new MxRecordCache(new EmailValidationProperties.Cache()),
+                new InMemoryZoneMxResolver(List.of("e.com"), Duration.ZERO), UnresolvedPolicy.REJECT);
+        generated = new ItemRequestValidator(email);
+
+        LocalValidatorFactoryBean hibernate = new LocalValidatorFactoryBean();
+        hibernate.setConstraintValidatorFactory(new ConstraintValidatorFactory() {
+            @Override
+            public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+                if (ValidEmailValidator.class.equals(key)) {
+                    return key.cast(email);
+                }
+                try {
+                    return key.getDeclaredConstructor().newInstance();
+                } catch (Exception e) {
+                    throw new RuntimeException("Failed to create validator: " + key, e);
+                }
+            }
+
+            @Override
+            public void releaseInstance(ConstraintValidator<?, ?> instance) {
+                // No cleanup needed
+            }
+        });
+        hibernate.afterPropertiesSet();
+        reference = hibernate;
+    }
+
+    /**
+     * Valid, invalid, null and edge-case requests produce the same fields, codes and messages.
+     */
+    @Test
+    void matchesHibernateValidator() {
+        List<ItemRequest> requests = List.of(
+                new ItemRequest("A", "d", "NEW", "ok@e.com"),
+                new ItemRequest(null, null, null, null),
+                new ItemRequest("", "x".repeat(300), "UNKNOWN", "not-an-email"),
+                new ItemRequest(" \t", "x".repeat(255), "new", "   "),
+                new ItemRequest("n".repeat(101), "", "NEW|PROCESSED", "user@nomail.example"),
+                new ItemRequest("n".repeat(100), "d", "CANCELLED", "a.b+c@E.com"),
+                new ItemRequest(" ", "d", "PROCESSED ", "x@e.com"));
+
+        for (ItemRequest req : requests) {
+            assertEquals(errors(reference, req), errors(generated, req),
+                    () -> "Different violations for " + req.getName() + "/" + req.getStatus() + "/" + req.getEmail());
+        }
+    }
+
+    /**
+     * A fully valid request has no errors, and an invalid one reports every field.
+     */
+    @Test
+    void reportsEveryViolatedField() {
+        assertTrue(errors(generated, new ItemRequest("A", "d", "NEW", "ok@e.com")).isEmpty());
+
+        Set<String> errors = errors(generated, new ItemRequest("", "x".repeat(300), "UNKNOWN", "not-an-email"));
+
+        assertEquals(Set.of(
+                "name NotBlank Name is required",
+                "description Size Description cannot exceed 255 characters",
+                "status Pattern Status must be one of NEW, PROCESSED, CANCELLED",
+                "email ValidEmail Email address is not deliverable"), errors);
+    }
+
+    /** Field errors as "field code message", with the code being the constraint's simple name. */
+    private static Set<String> errors(Validator validator, ItemRequest req) {
+        Errors errors = new BeanPropertyBindingResult(req, "itemRequest");
+        validator.validate(req, errors);
+        return errors.getFieldErrors().stream()
+                .map(fe -> fe.getField() + " " + constraintCode(fe.getCodes()) + " " + fe.getDefaultMessage())
+                .collect(Collectors.toSet());
+    }
+
+    /** The last, least specific message code is the bare constraint name. */
+    private static String constraintCode(String[] codes) {
+        return codes[codes.length - 1];
+    }
+}
@@ -1,22 +1,37 @@
 package com.siemens.internship;
 
+import com.siemens.internship.config.ProcessingProperties;
+import com.siemens.internship.model.ChunkedProcessingReport;
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemField;
+import com.siemens.internship.model.ItemFilter;
+import com.siemens.internship.model.ItemPage;
+import com.siemens.internship.model.ProcessingSummary;
 import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ItemChangeTracker;
+import com.siemens.internship.service.ItemProcessor;
 import com.siemens.internship.service.ItemService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
-import org.mockito.invocation.InvocationOnMock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.stubbing.Answer;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,6 +48,18 @@ class ItemServiceTest {
     @Mock
     private ItemRepository repo;   // Mocked repository dependency
 
+    @Mock
+    private ItemProcessor processor; // Mocked asynchronous processing unit
+
+    @Spy
+    private ProcessingProperties props = new ProcessingProperties(); // Default tunables
+
+    @Mock
+    private EntityManager entityManager; // Mocked persistence context, for detaching streamed rows
+
+    @Mock
+    private ItemChangeTracker changes; // Mocked table-wide change counter
+
     @InjectMocks
     private ItemService service;   // Service under test, with mocks injected
 
@@ -56,6 +83,143 @@ class ItemServiceTest {
         verify(repo).findAll();
     }
 
+    /**
+     * Verifies filtered reads go to the indexed search queries, and an empty filter to findAll().
+     */
+    @Test
+    void findAllWithFilterUsesSearchQueries() {
+        // given: one item with the requested status and domain
+        ItemFilter filter = ItemFilter.of("NEW", "b.com");
+        Item item = new Item(1L, "n", null, "NEW", "a@b.com");
+        when(repo.findAllFiltered(filter)).thenReturn(List.of(item));
+        when(repo.findFilteredAfter(filter, 0L, 11)).thenReturn(List.of(item));
+
+        // when / then: list and page are served by the filtered queries
+        assertEquals(List.of(item), service.findAll(filter));
+        assertEquals(List.of(item), service.findPage(filter, 0L, 10).items());
+        verify(repo, never()).findAll();
+
+        // and: no filter falls back to the plain read
+        service.findAll(ItemFilter.NONE);
+        verify(repo).findAll();
+    }
+
+    /**
+     * Verifies findPage() seeks past the cursor, fetches one extra row to detect a next page,
+     * and trims it from the returned page.
+     */
+    @Test
+    void findPageFetchesOneExtraRowToDetectNextPage() {
+        // given: three items after id 10, two requested per page
+        Item a = new Item(11L, "a", null, "NEW", "a@b.com");
+        Item b = new Item(12L, "b", null, "NEW", "c@d.com");
+        Item c = new Item(13L, "c", null, "NEW", "e@f.com");
+        when(repo.findByIdGreaterThanOrderByIdAsc(10L, PageRequest.of(0, 3))).thenReturn(List.of(a, b, c));
+        when(repo.findByIdGreaterThanOrderByIdAsc(12L, PageRequest.of(0, 3))).thenReturn(List.of(c));
+
+        // when: the first and the following page are read
+        ItemPage<Item> first = service.findPage(ItemFilter.NONE, 10L, 2);
+        ItemPage<Item> last = service.findPage(ItemFilter.NONE, first.nextAfterId(), 2);
+
+        // then: the first page links on from its last item; the last page does not
+        assertEquals(List.of(a, b), first.items());
+        assertEquals(12L, first.nextAfterId());
+        assertEquals(List.of(c), last.items());
+        assertNull(last.nextAfterId());
+    }
+
+    /**
+     * Verifies the sparse fieldset page selects only the requested fields, with one look-ahead row,
+     * and continues after the id of the last row kept.
+     */
+    @Test
+    void findProjectedPageContinuesAfterLastId() {
+        // given: three projected rows after id 0, two requested per page
+        Set<ItemField> fields = EnumSet.of(ItemField.ID, ItemField.STATUS);
+        List<Map<String, Object>> rows = List.of(
+                Map.of("id", 1L, "status", "NEW"),
+                Map.of("id", 2L, "status", "NEW"),
+                Map.of("id", 3L, "status", "NEW"));
+        when(repo.findProjectedAfter(fields, ItemFilter.NONE, 0L, 3)).thenReturn(rows);
+
+        // when: the first page is read
+        ItemPage<Map<String, Object>> page = service.findPage(ItemFilter.NONE, 0L, 2, fields);
+
+        // then: the look-ahead row is dropped and the page continues after id 2
+        assertEquals(rows.subList(0, 2), page.items());
+        assertEquals(2L, page.nextAfterId());
+        verify(repo, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any());
+    }
+
+    /**
+     * Verifies streamAll() detaches every row before handing it over, then closes the cursor.
+     */
+    @Test
+    void streamAllDetachesEachItemAndClosesTheStream() {
+        // given: a two-row cursor
+        Item a = new Item(1L, "a", null, "NEW", "a@b.com");
+        Item b = new Item(2L, "b", null, "NEW", "c@d.com");
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repo.streamAllByOrderByIdAsc()).thenReturn(Stream.of(a, b).onClose(() -> closed.set(true)));
+
+        // when: every item is streamed to a consumer
+        List<Item> seen = new ArrayList<>();
+        long count = service.streamAll(item -> {
+            verify(entityManager).detach(item);   // already detached when handed over
+            seen.add(item);
+        });
+
+        // then: both items were handed over in order and the cursor was released
+        assertEquals(2, count);
+        assertEquals(List.of(a, b), seen);
+        assertTrue(closed.get());
+    }
+
+    /**
+     * Verifies a filtered streamAll() reads from the filtered cursor, not the full-table one.
+     */
+    @Test
+    void streamAllWithFilterStreamsOnlyMatchingItems() {
+        // given: a cursor over the items with status NEW
+        ItemFilter filter = ItemFilter.of("NEW", null);
+        Item a = new Item(1L, "a", null, "NEW", "a@b.com");
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repo.streamFiltered(filter)).thenReturn(Stream.of(a).onClose(() -> closed.set(true)));
+
+        // when
+        List<Item> seen = new ArrayList<>();
+        long count = service.streamAll(filter, seen::add);
+
+        // then
+        assertEquals(1, count);
+        assertEquals(List.of(a), seen);
+        assertTrue(closed.get());
+        verify(entityManager).detach(a);
+        verify(repo, never()).streamAllByOrderByIdAsc();
+    }
+
+    /**
+     * Verifies the projected streamAll() hands over each selected row and closes the cursor.
+     */
+    @Test
+    void streamAllWithFieldsStreamsProjectedRows() {
+        // given: a projected cursor over one item
+        Set<ItemField> fields = EnumSet.of(ItemField.ID, ItemField.VERSION);
+        Map<String, Object> row = Map.of("id", 1L, "version", 0L);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repo.streamProjected(fields, ItemFilter.NONE)).thenReturn(Stream.of(row).onClose(() -> closed.set(true)));
+
+        // when
+        List<Map<String, Object>> seen = new ArrayList<>();
+        long count = service.streamAll(ItemFilter.NONE, fields, seen::add);
+
+        // then: no entity was loaded, so none had to be detached
+        assertEquals(1, count);
+        assertEquals(List.of(row), seen);
+        assertTrue(closed.get());
+        verifyNoInteractions(entityManager);
+    }
+
     /**
      * Verifies existsById() delegates to the repository.
      */
@@ -103,6 +267,7 @@ class ItemServiceTest {
         // then: result should be the saved entity
         assertSame(saved, result);
         verify(repo).save(toSave);
+        verify(changes).changed();
     }
 
     /**
@@ -132,44 +297,41 @@ class ItemServiceTest {
 
         // then: repo.deleteById should have been invoked
         verify(repo).deleteById(7L);
+        verify(changes).changed();
     }
 
     /**
-     * Tests that processAndSave() updates status and saves via repo asynchronously.
+     * Verifies the conditional delete: it counts as a change only if a row at an expected
+     * version was deleted, and an empty version list never reaches the database.
      */
     @Test
-    void processAndSaveCompletesWithProcessedItem() throws Exception {
-        // given: an item to process
-        Item item = new Item(2L, "n", "d", "NEW", "j@k.com");
-        // stub repo.save to return the same item
-        when(repo.save(item)).thenAnswer(inv -> inv.getArgument(0));
-
-        // when: service.processAndSave is invoked
-        CompletableFuture<Item> future = service.processAndSave(item);
-
-        // then: future completes with status "PROCESSED" and repo.save called
-        Item result = future.get(1, TimeUnit.SECONDS);
-        assertEquals("PROCESSED", result.getStatus(),
-                "status should be updated to PROCESSED");
-        verify(repo).save(item);
+    void deleteByIdAndVersionOnlyDeletesExpectedVersion() {
+        // given: the item is at version 2
+        when(repo.deleteByIdAndVersionIn(7L, List.of(2L))).thenReturn(1);
+        when(repo.deleteByIdAndVersionIn(7L, List.of(1L))).thenReturn(0);
+
+        // when / then: a stale version deletes nothing, the current one deletes the item
+        assertFalse(service.deleteByIdAndVersion(7L, List.of(1L)));
+        assertFalse(service.deleteByIdAndVersion(7L, List.of()));
+        assertTrue(service.deleteByIdAndVersion(7L, List.of(2L)));
+
+        verify(repo, times(2)).deleteByIdAndVersionIn(eq(7L), anyCollection());
+        verify(changes).changed();
     }
 
     /**
-     * Ensures processAndSave() returns an exceptional future on save error.
+     * Verifies the conditional-request reads: the version query and the change counter.
      */
     @Test
-    void processAndSaveReturnsExceptionalFutureOnError() {
-        // given: repo.save throws runtime exception
-        Item item = new Item(3L, "n", "d", "NEW", "l@m.com");
-        when(repo.save(item)).thenThrow(new RuntimeException("fail"));
-
-        // when: service.processAndSave is called
-        CompletableFuture<Item> future = service.processAndSave(item);
-
-        // then: future is completed exceptionally and get() throws
-        assertTrue(future.isCompletedExceptionally());
-        assertThrows(Exception.class, future::get);
-        verify(repo).save(item);
+    void versionAndChangeCountDelegate() {
+        // given: a stored version and a change counter
+        when(repo.findVersionById(3L)).thenReturn(Optional.of(4L));
+        when(changes.current()).thenReturn(17L);
+
+        // when / then: both are passed through without loading items
+        assertEquals(Optional.of(4L), service.findVersionById(3L));
+        assertEquals(17L, service.changeCount());
+        verify(repo, never()).findById(any());
     }
 
     /**
@@ -177,24 +339,17 @@ class ItemServiceTest {
      */
     @Test
     void processItemsAsyncReturnsOnlySuccessfulResults() throws Exception {
-        // given: two items, repo.findAll() returns both
+        // given: two eligible items returned by the status query
         Item good = new Item(1L, "a", "d", "NEW", "x@y.com");
         Item bad = new Item(2L, "b", "d", "NEW", "z@w.com");
-        when(repo.findAll()).thenReturn(List.of(good, bad));
-
-        // stub repo.save to succeed once then fail
-        doAnswer(new Answer<Item>() {
-            private int count = 0;
-            @Override
-            public Item answer(InvocationOnMock inv) {
-                Item arg = inv.getArgument(0);
-                if (++count == 1) {
-                    return arg;  // first save succeeds
-                } else {
-                    throw new DataIntegrityViolationException("conflict"); // second save fails
-                }
-            }
-        }).when(repo).save(any(Item.class));
+        when(repo.findByStatusIn(List.of("NEW"))).thenReturn(List.of(good, bad));
+
+        // stub the processor to succeed for the first item and fail for the second
+        when(processor.processAndSave(good))
+                .thenReturn(CompletableFuture.completedFuture(good));
+        when(processor.processAndSave(bad))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new DataIntegrityViolationException("conflict")));
 
         // when: service.processItemsAsync is called
         CompletableFuture<List<Item>> future = service.processItemsAsync();
@@ -203,7 +358,113 @@ class ItemServiceTest {
         // then: only the successfully processed item should be in the result
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
-        // verify both save attempts occurred
-        verify(repo, times(2)).save(any(Item.class));
+        // verify both items were handed to the processor
+        verify(processor, times(2)).processAndSave(any(Item.class));
+    }
+
+    /**
+     * Ensures an item shed by a full executor is reported as a failure
+     * instead of aborting the whole run.
+     */
+    @Test
+    void processItemsAsyncSkipsItemsRejectedByExecutor() throws Exception {
+        // given: the executor rejects the second item
+        Item good = new Item(1L, "a", "d", "NEW", "x@y.com");
+        Item shed = new Item(2L, "b", "d", "NEW", "z@w.com");
+        when(repo.findByStatusIn(List.of("NEW"))).thenReturn(List.of(good, shed));
+        when(processor.processAndSave(good)).thenReturn(CompletableFuture.completedFuture(good));
+        when(processor.processAndSave(shed)).thenThrow(new TaskRejectedException("queue full"));
+
+        // when: the run completes
+        List<Item> result = service.processItemsAsync().get(2, TimeUnit.SECONDS);
+
+        // then: only the accepted item is returned
+        assertEquals(List.of(good), result);
+    }
+
+    /**
+     * Tests that processItemsInChunksAsync() walks eligible IDs with a keyset scan,
+     * submits one bulk update per chunk, and reports failed chunks separately.
+     */
+    @Test
+    void processItemsInChunksAsyncReportsPerChunkOutcome() throws Exception {
+        // given: three IDs read in chunks of two
+        when(repo.findIdsByStatusAfter(List.of("NEW"), 0L, PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+        when(repo.findIdsByStatusAfter(List.of("NEW"), 2L, PageRequest.of(0, 2))).thenReturn(List.of(3L));
+        when(repo.findIdsByStatusAfter(List.of("NEW"), 3L, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        // first chunk commits, second rolls back
+        when(processor.processChunk(List.of(1L, 2L)))
+                .thenReturn(CompletableFuture.completedFuture(2));
+        when(processor.processChunk(List.of(3L)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("boom")));
+
+        // when: the chunked run is executed
+        ChunkedProcessingReport report =
+                service.processItemsInChunksAsync(2).get(2, TimeUnit.SECONDS);
+
+        // then: both chunks are reported with their outcome
+        assertEquals(2, report.chunks());
+        assertEquals(2, report.processed());
+        assertEquals(1, report.failed());
+        assertTrue(report.results().get(0).success());
+        assertFalse(report.results().get(1).success());
+        assertEquals("boom", report.results().get(1).error());
+        assertEquals(3L, report.results().get(1).firstId());
+    }
+
+    /**
+     * Ensures the configured chunk size is used when none is requested.
+     */
+    @Test
+    void processItemsInChunksAsyncUsesConfiguredChunkSize() throws Exception {
+        props.setChunkSize(7);
+        when(repo.findIdsByStatusAfter(List.of("NEW"), 0L, PageRequest.of(0, 7))).thenReturn(List.of());
+
+        ChunkedProcessingReport report =
+                service.processItemsInChunksAsync(null).get(2, TimeUnit.SECONDS);
+
+        assertEquals(7, report.chunkSize());
+        assertEquals(0, report.chunks());
+        verifyNoInteractions(processor);
+    }
+
+    /**
+     * Ensures job sizing counts only eligible items after the watermark.
+     */
+    @Test
+    void countEligibleAfterUsesStatusFilter() {
+        when(repo.countByStatusInAndIdGreaterThan(List.of("NEW"), 10L)).thenReturn(5L);
+
+        assertEquals(5L, service.countEligibleAfter(10L));
+    }
+
+    /**
+     * Tests that processItemsSummaryAsync() pages through eligible items and
+     * reports counts and failed ids instead of the processed entities.
+     */
+    @Test
+    void processItemsSummaryAsyncReportsCountsAndFailedIds() throws Exception {
+        props.setChunkSize(2);
+        Item a = new Item(1L, "a", "d", "NEW", "a@b.com");
+        Item b = new Item(2L, "b", "d", "NEW", "c@d.com");
+        Item c = new Item(3L, "c", "d", "NEW", "e@f.com");
+        when(repo.findByStatusInAndIdGreaterThanOrderByIdAsc(List.of("NEW"), 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(a, b));
+        when(repo.findByStatusInAndIdGreaterThanOrderByIdAsc(List.of("NEW"), 2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(c));
+        when(repo.findByStatusInAndIdGreaterThanOrderByIdAsc(List.of("NEW"), 3L, PageRequest.of(0, 2)))
+                .thenReturn(List.of());
+
+        when(processor.processAndSave(a)).thenReturn(CompletableFuture.completedFuture(a));
+        when(processor.processAndSave(b)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("x")));
+        when(processor.processAndSave(c)).thenThrow(new RuntimeException("rejected"));
+
+        ProcessingSummary summary = service.processItemsSummaryAsync().get(2, TimeUnit.SECONDS);
+
+        assertEquals(1, summary.processed());
+        assertEquals(2, summary.failed());
+        assertEquals(List.of(2L, 3L), summary.failedIds());
+        assertTrue(summary.durationMs() >= 0);
     }
 }
@@ -0,0 +1,111 @@
+package com.siemens.internship;
+
+import com.siemens.internship.service.dns.DnsMessageCodec;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loopback DNS stand-in for resolver tests: answers MX queries from a fixed set of domains
+ * (NXDOMAIN for anything else), or fails every query with a fixed response code,
+ * optionally after a delay. Delayed answers are scheduled
+ * independently, so concurrent queries overlap like they would on a real server.
+ */
+class LocalDnsServer implements AutoCloseable {
+
+    private final DatagramSocket socket;
+    private final Set<String> mxDomains;
+    private final long delayMillis;
+    private final int failRcode;
+    private final AtomicInteger queries = new AtomicInteger();
+    private final Thread worker;
+    private final ScheduledExecutorService responder = Executors.newScheduledThreadPool(2);
+
+    LocalDnsServer(Set<String> mxDomains, long delayMillis) throws SocketException {
+        this(mxDomains, delayMillis, 0);
+    }
+
+    /**
+     * @param failRcode response code for every query, e.g. 2 (SERVFAIL); 0 answers normally
+     */
+    LocalDnsServer(Set<String> mxDomains, long delayMillis, int failRcode) throws SocketException {
+        this.failRcode = failRcode;
+        this.socket = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+        this.mxDomains = mxDomains;
+        this.delayMillis = delayMillis;
+        this.worker = new Thread(this::serve, "local-dns");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /** @return {@code host:port} of this server */
+    String address() {
+        return "127.0.0.1:" + socket.getLocalPort();
+    }
+
+    /** @return number of queries received so far */
+    int queries() {
+        return queries.get();
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+        responder.shutdownNow();
+    }
+
+    private void serve() {
+        byte[] buf = new byte[DnsMessageCodec.MAX_UDP_PAYLOAD];
+        while (!socket.isClosed()) {
+            try {
+                DatagramPacket packet = new DatagramPacket(buf, buf.length);
+                socket.receive(packet);
+                queries.incrementAndGet();
+                int id = DnsMessageCodec.readId(ByteBuffer.wrap(buf, 0, packet.getLength()));
+                String domain = questionName(buf);
+                ByteBuffer answer = failRcode != 0
+                        ? DnsMessageCodec.encodeMxResponse(id, domain, failRcode)
+                        : mxDomains.contains(domain)
+                        ? DnsMessageCodec.encodeMxResponse(id, domain, 0, "mx1." + domain, "mx2." + domain)
+                        : DnsMessageCodec.encodeMxResponse(id, domain, 3);
+                DatagramPacket reply = new DatagramPacket(answer.array(), answer.limit(), packet.getSocketAddress());
+                responder.schedule(() -> send(reply), delayMillis, TimeUnit.MILLISECONDS);
+            } catch (IOException ex) {
+                return;
+            }
+        }
+    }
+
+    private void send(DatagramPacket reply) {
+        try {
+            socket.send(reply);
+        } catch (IOException ex) {
+            // closed while the answer was pending
+        }
+    }
+
+    /** Decode the uncompressed question name that follows the 12-byte header. */
+    private static String questionName(byte[] buf) {
+        StringBuilder name = new StringBuilder();
+        int pos = 12;
+        while (buf[pos] != 0) {
+            int len = buf[pos];
+            if (name.length() > 0) {
+                name.append('.');
+            }
+            name.append(new String(buf, pos + 1, len, StandardCharsets.US_ASCII));
+            pos += len + 1;
+        }
+        return name.toString();
+    }
+}
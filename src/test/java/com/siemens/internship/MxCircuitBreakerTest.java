@@ -0,0 +1,139 @@
+package com.siemens.internship;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.service.MxCircuitBreaker;
+import com.siemens.internship.service.MxCircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link MxCircuitBreaker}, driven by a manual clock.
+ */
+class MxCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();      // Manual nanosecond clock
+    private MxCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        EmailValidationProperties.Breaker settings = new EmailValidationProperties.Breaker();
+        settings.setWindowSize(4);
+        settings.setMinimumCalls(4);
+        settings.setFailureRateThreshold(50);
+        settings.setOpenDuration(Duration.ofSeconds(30));
+        settings.setHalfOpenProbes(2);
+        breaker = new MxCircuitBreaker(settings, now::get);
+    }
+
+    /**
+     * The breaker stays closed until the window holds the minimum number of calls.
+     */
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onFailure();
+        }
+
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    /**
+     * Reaching the failure rate opens the breaker, which then refuses lookups.
+     */
+    @Test
+    void opensAtFailureRateAndRefuses() {
+        // given: a window of two answers and two failures
+        record(true, true, false, false);
+
+        // then
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(1, breaker.getOpenedCount());
+        assertEquals(1, breaker.getShortCircuitedCount());
+    }
+
+    /**
+     * Only the most recent calls count: a long healthy run does not dilute fresh failures.
+     */
+    @Test
+    void onlyRecentCallsCount() {
+        record(true, true, true, true, true, true, false);
+        assertEquals(State.CLOSED, breaker.getState());
+
+        record(false);
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    /**
+     * After the open duration, the probes are let through; all answering closes the breaker.
+     */
+    @Test
+    void successfulProbesCloseBreaker() {
+        record(false, false, false, false);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when: the probes are let through, and no more
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        // then: both answering closes it with a fresh window
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertEquals(State.CLOSED, breaker.getState());
+        record(false, false, false);
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    /**
+     * A failed probe reopens the breaker for another open duration.
+     */
+    @Test
+    void failedProbeReopensBreaker() {
+        record(false, false, false, false);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure();
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(2, breaker.getOpenedCount());
+    }
+
+    /**
+     * State and counters are exposed as Micrometer meters.
+     */
+    @Test
+    void stateIsExposedAsMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        breaker.bindTo(registry);
+
+        record(false, false, false, false);
+        breaker.tryAcquirePermission();
+
+        assertEquals(State.OPEN.ordinal(), registry.get("email.mx.breaker.state").gauge().value());
+        assertEquals(1.0, registry.get("email.mx.breaker.opened").functionCounter().count());
+        assertEquals(1.0, registry.get("email.mx.breaker.short.circuited").functionCounter().count());
+    }
+
+    /** Run one permitted lookup per outcome; true means DNS answered. */
+    private void record(boolean... answered) {
+        for (boolean ok : answered) {
+            assertTrue(breaker.tryAcquirePermission());
+            if (ok) {
+                breaker.onSuccess();
+            } else {
+                breaker.onFailure();
+            }
+        }
+    }
+}
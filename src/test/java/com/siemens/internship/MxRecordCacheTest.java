@@ -0,0 +1,237 @@
+package com.siemens.internship;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.service.MxRecordCache;
+import com.siemens.internship.service.dns.MxResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link MxRecordCache}, driven by a manual clock.
+ */
+class MxRecordCacheTest {
+
+    private final AtomicLong now = new AtomicLong();      // Manual nanosecond clock
+    private final AtomicInteger lookups = new AtomicInteger();
+    private MxRecordCache cache;
+
+    @BeforeEach
+    void setUp() {
+        EmailValidationProperties.Cache settings = new EmailValidationProperties.Cache();
+        settings.setTtl(Duration.ofSeconds(60));
+        settings.setNegativeTtl(Duration.ofSeconds(5));
+        settings.setMaxSize(2);
+        cache = new MxRecordCache(settings, now::get, null);
+    }
+
+    /**
+     * Repeated lookups for the same domain hit DNS once, regardless of case.
+     */
+    @Test
+    void repeatedDomainIsServedFromCache() {
+        assertTrue(cache.resolve("example.org", answer(true)));
+        assertTrue(cache.resolve("EXAMPLE.org", answer(true)));
+
+        assertEquals(1, lookups.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    /**
+     * The domain part of an address is looked up by its offset, case-insensitively, and shares
+     * entries with lookups by domain; a miss queries DNS with the lower-case domain.
+     */
+    @Test
+    void domainIsLookedUpInPlaceByOffset() {
+        List<String> queried = new ArrayList<>();
+        MxResolver recording = domain -> {
+            queried.add(domain);
+            return true;
+        };
+
+        assertTrue(cache.resolve("Jane.Doe@Example.ORG", 9, recording));
+        assertTrue(cache.getIfPresent("example.org", null));
+        assertTrue(cache.resolve("john@EXAMPLE.org", 5, recording));
+        assertNull(cache.getIfPresent("john@example.net", 5, null));
+
+        assertEquals(List.of("example.org"), queried);
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * Negative results expire after the shorter negative TTL, positive ones after the full TTL.
+     */
+    @Test
+    void negativeResultsExpireSooner() {
+        cache.resolve("good.org", answer(true));
+        cache.resolve("bad.org", answer(false));
+
+        // when: more than the negative TTL but less than the TTL elapses
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        cache.resolve("good.org", answer(true));
+        cache.resolve("bad.org", answer(false));
+
+        // then: only the negative entry was looked up again
+        assertEquals(3, lookups.get());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    /**
+     * Lookups with an unknown outcome are passed through but never cached.
+     */
+    @Test
+    void failedLookupsAreNotCached() {
+        assertNull(cache.resolve("flaky.org", answer(null)));
+        assertTrue(cache.resolve("flaky.org", answer(true)));
+
+        assertEquals(2, lookups.get());
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * Beyond the size bound the least recently used domain is evicted.
+     */
+    @Test
+    void leastRecentlyUsedDomainIsEvicted() {
+        cache.resolve("a.org", answer(true));
+        cache.resolve("b.org", answer(true));
+        cache.resolve("a.org", answer(true));  // a is now most recently used
+        cache.resolve("c.org", answer(true));  // evicts b
+
+        cache.resolve("a.org", answer(true));
+        cache.resolve("b.org", answer(true));
+
+        assertEquals(4, lookups.get());
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    /**
+     * Counters are published as Micrometer meters.
+     */
+    @Test
+    void countersAreExposedAsMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.resolve("example.org", answer(true));
+        cache.resolve("example.org", answer(true));
+
+        assertEquals(1.0, registry.get("email.mx.cache.hits").functionCounter().count());
+        assertEquals(1.0, registry.get("email.mx.cache.misses").functionCounter().count());
+        assertEquals(0.0, registry.get("email.mx.cache.evictions").functionCounter().count());
+        assertEquals(1.0, registry.get("email.mx.cache.size").gauge().value());
+        assertEquals(1, registry.get("email.mx.cache.staleness").timer().count());
+        assertEquals(0.0, registry.get("email.mx.cache.refreshes").functionCounter().count());
+    }
+
+    /**
+     * A hot entry close to expiry is refreshed in the background while the cached answer is served.
+     */
+    @Test
+    void hotEntryIsRefreshedAheadOfExpiry() {
+        List<Runnable> background = new ArrayList<>();
+        MxRecordCache refreshing = new MxRecordCache(refreshSettings(), now::get, background::add);
+        refreshing.resolve("hot.org", answer(true));
+
+        // when: the domain is read often, and then within the refresh window
+        for (int i = 0; i < 3; i++) {
+            refreshing.resolve("hot.org", answer(true));
+        }
+        assertTrue(background.isEmpty(), "not yet within the refresh window");
+        now.addAndGet(Duration.ofSeconds(55).toNanos());
+        assertTrue(refreshing.resolve("hot.org", answer(true)));
+
+        // then: exactly one refresh was scheduled and nobody waited on it
+        assertEquals(1, background.size());
+        assertEquals(1, lookups.get());
+        refreshing.resolve("hot.org", answer(true));
+        assertEquals(1, background.size(), "refresh already in flight");
+
+        // when: the refresh runs, the entry gets a new lifetime
+        background.get(0).run();
+        assertEquals(2, lookups.get());
+        assertEquals(1, refreshing.getRefreshCount());
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertTrue(refreshing.resolve("hot.org", answer(true)));
+        assertEquals(2, lookups.get(), "served from the refreshed entry");
+    }
+
+    /**
+     * While a refresh is in flight the answer is still served shortly past expiry, and counted as stale.
+     */
+    @Test
+    void staleAnswerIsServedWhileRefreshIsInFlight() {
+        List<Runnable> background = new ArrayList<>();
+        MxRecordCache refreshing = new MxRecordCache(refreshSettings(), now::get, background::add);
+        for (int i = 0; i < 4; i++) {
+            refreshing.resolve("hot.org", answer(true));
+        }
+        now.addAndGet(Duration.ofSeconds(55).toNanos());
+        refreshing.resolve("hot.org", answer(true));   // schedules the refresh
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos()); // past expiry, refresh still pending
+        assertTrue(refreshing.resolve("hot.org", answer(true)));
+
+        assertEquals(1, lookups.get());
+        assertEquals(1, refreshing.getStaleHitCount());
+    }
+
+    /**
+     * Rarely read domains are not refreshed and simply expire.
+     */
+    @Test
+    void coldEntryIsNotRefreshed() {
+        List<Runnable> background = new ArrayList<>();
+        MxRecordCache refreshing = new MxRecordCache(refreshSettings(), now::get, background::add);
+        refreshing.resolve("cold.org", answer(true));
+        now.addAndGet(Duration.ofSeconds(55).toNanos());
+        refreshing.resolve("cold.org", answer(true));
+
+        assertTrue(background.isEmpty());
+    }
+
+    /**
+     * A refresh without an answer is counted and retried by a later read.
+     */
+    @Test
+    void failedRefreshIsRetried() {
+        List<Runnable> background = new ArrayList<>();
+        MxRecordCache refreshing = new MxRecordCache(refreshSettings(), now::get, background::add);
+        for (int i = 0; i < 4; i++) {
+            refreshing.resolve("hot.org", answer(true));
+        }
+        now.addAndGet(Duration.ofSeconds(55).toNanos());
+        refreshing.resolve("hot.org", answer(null));
+        background.get(0).run();
+
+        refreshing.resolve("hot.org", answer(true));
+
+        assertEquals(1, refreshing.getRefreshFailureCount());
+        assertEquals(2, background.size());
+    }
+
+    private EmailValidationProperties.Cache refreshSettings() {
+        EmailValidationProperties.Cache settings = new EmailValidationProperties.Cache();
+        settings.setTtl(Duration.ofSeconds(60));
+        settings.setRefreshAhead(Duration.ofSeconds(10));
+        settings.setRefreshMinHits(3);
+        return settings;
+    }
+
+    private MxResolver answer(Boolean present) {
+        return domain -> {
+            lookups.incrementAndGet();
+            return present;
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package com.siemens.internship;
+
+import com.siemens.internship.service.dns.DnsMessageCodec;
+import com.siemens.internship.service.dns.InMemoryZoneMxResolver;
+import com.siemens.internship.service.dns.UdpMxResolver;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@code MxResolver} implementations that run without network access.
+ */
+class MxResolverTest {
+
+    /**
+     * The codec decodes responses it encodes, including compressed answer names.
+     */
+    @Test
+    void codecRoundTripsResponses() {
+        ByteBuffer query = DnsMessageCodec.encodeMxQuery(0x1234, "example.org");
+        assertEquals(0x1234, DnsMessageCodec.readId(query));
+
+        DnsMessageCodec.Response found = DnsMessageCodec.decodeResponse(
+                DnsMessageCodec.encodeMxResponse(7, "example.org", 0, "mx1.example.org", "mx2.example.org"));
+        assertEquals(7, found.id());
+        assertEquals(2, found.mxRecords());
+        assertEquals(Boolean.TRUE, found.toMxPresence());
+
+        assertEquals(Boolean.FALSE, DnsMessageCodec.decodeResponse(
+                DnsMessageCodec.encodeMxResponse(8, "missing.org", 3)).toMxPresence());
+        assertNull(DnsMessageCodec.decodeResponse(
+                DnsMessageCodec.encodeMxResponse(9, "broken.org", 2)).toMxPresence());
+    }
+
+    /**
+     * Queries are not accepted where a response is expected.
+     */
+    @Test
+    void codecRejectsQueriesAsResponses() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DnsMessageCodec.decodeResponse(DnsMessageCodec.encodeMxQuery(1, "example.org")));
+    }
+
+    /**
+     * The UDP client distinguishes MX, NXDOMAIN, and an unreachable server.
+     */
+    @Test
+    void udpResolverTalksToLocalServer() throws Exception {
+        try (LocalDnsServer server = new LocalDnsServer(Set.of("example.org"), 0)) {
+            UdpMxResolver resolver = new UdpMxResolver(List.of(server.address()), Duration.ofSeconds(1), 0);
+
+            assertEquals(Boolean.TRUE, resolver.hasMxRecord("example.org"));
+            assertEquals(Boolean.FALSE, resolver.hasMxRecord("missing.org"));
+        }
+    }
+
+    /**
+     * A server that answers too late yields an unknown outcome.
+     */
+    @Test
+    void udpResolverTimesOut() throws Exception {
+        try (LocalDnsServer server = new LocalDnsServer(Set.of("example.org"), 500)) {
+            UdpMxResolver resolver = new UdpMxResolver(List.of(server.address()), Duration.ofMillis(50), 0);
+
+            assertNull(resolver.hasMxRecord("example.org"));
+        }
+    }
+
+    /**
+     * Zone files contribute their MX owners; other record types do not.
+     */
+    @Test
+    void inMemoryResolverReadsZoneFile() {
+        String zone = """
+                $TTL 300
+                ; mail domains
+                example.org.   300 IN MX 10 mx1.example.org.
+                Corp.Example   IN MX 5 mail.corp.example.
+                www.example.org.   IN A 192.0.2.1
+                """;
+        InMemoryZoneMxResolver resolver =
+                InMemoryZoneMxResolver.fromZoneFile(new StringReader(zone), Duration.ZERO);
+
+        assertEquals(Boolean.TRUE, resolver.hasMxRecord("example.org"));
+        assertEquals(Boolean.TRUE, resolver.hasMxRecord("corp.example"));
+        assertEquals(Boolean.FALSE, resolver.hasMxRecord("www.example.org"));
+        assertEquals(Boolean.FALSE, resolver.hasMxRecord("unknown.org"));
+    }
+
+    /**
+     * Owners are taken from $ORIGIN, @, relative names, and the previous record for lines
+     * starting with whitespace; records in parentheses may span lines.
+     */
+    @Test
+    void inMemoryResolverQualifiesZoneOwners() {
+        String zone = """
+                $ORIGIN example.com.
+                @   IN SOA ns1 hostmaster (
+                        2024010101 ; serial
+                        1h 15m 1w 1h )
+                    IN NS ns1
+                    IN MX 10 mail
+                www 1h IN A 192.0.2.1
+                    IN MX 10 mail
+                ns1 IN A 192.0.2.2
+                $ORIGIN sub
+                mail IN MX 5 mx.example.net.
+                """;
+        InMemoryZoneMxResolver resolver =
+                InMemoryZoneMxResolver.fromZoneFile(new StringReader(zone), Duration.ZERO);
+
+        assertEquals(Set.of("example.com", "www.example.com", "mail.sub.example.com"), resolver.getMxDomains());
+    }
+
+    /**
+     * Lines outside the supported subset fail instead of registering bogus domains.
+     */
+    @Test
+    void inMemoryResolverRejectsUnsupportedZoneSyntax() {
+        for (String zone : List.of(
+                "$INCLUDE other.zone\n",
+                "    IN MX 10 mail.example.org.\n",
+                "@ IN MX 10 mail.example.org.\n",
+                "example.org. IN MX mail.example.org.\n",
+                "example.org. IN SOA ns1 hostmaster ( 1 1h\n")) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> InMemoryZoneMxResolver.fromZoneFile(new StringReader(zone), Duration.ZERO), zone);
+        }
+    }
+
+    /**
+     * The configured latency is applied to every lookup.
+     */
+    @Test
+    void inMemoryResolverAddsLatency() {
+        InMemoryZoneMxResolver resolver =
+                new InMemoryZoneMxResolver(List.of("example.org"), Duration.ofMillis(30));
+
+        long start = System.nanoTime();
+        assertEquals(Boolean.TRUE, resolver.hasMxRecord("example.org"));
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(30).toNanos());
+    }
+}
@@ -0,0 +1,113 @@
+package com.siemens.internship;
+
+import com.siemens.internship.service.dns.PipelinedUdpMxResolver;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PipelinedUdpMxResolver} against a loopback DNS stand-in.
+ */
+class PipelinedUdpMxResolverTest {
+
+    /**
+     * MX and NXDOMAIN answers are mapped to true and false.
+     */
+    @Test
+    void resolvesAgainstLocalServer() throws Exception {
+        try (LocalDnsServer server = new LocalDnsServer(Set.of("example.org"), 0);
+             PipelinedUdpMxResolver resolver =
+                     new PipelinedUdpMxResolver(List.of(server.address()), Duration.ofSeconds(1), 0)) {
+            assertEquals(Boolean.TRUE, resolver.hasMxRecord("example.org"));
+            assertEquals(Boolean.FALSE, resolver.hasMxRecord("missing.org"));
+            assertEquals(0, resolver.inFlight());
+        }
+    }
+
+    /**
+     * Concurrent lookups share the channel and overlap: the batch takes about one
+     * server delay, not one delay per lookup, and every answer reaches its own caller.
+     */
+    @Test
+    void concurrentLookupsArePipelined() throws Exception {
+        int lookups = 40;
+        long delayMillis = 200;
+        ExecutorService callers = Executors.newFixedThreadPool(lookups);
+        try (LocalDnsServer server = new LocalDnsServer(Set.of("even.org"), delayMillis);
+             PipelinedUdpMxResolver resolver =
+                     new PipelinedUdpMxResolver(List.of(server.address()), Duration.ofSeconds(5), 0)) {
+            List<CompletableFuture<Boolean>> answers = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                String domain = i % 2 == 0 ? "even.org" : "odd.org";
+                answers.add(CompletableFuture.supplyAsync(() -> resolver.hasMxRecord(domain), callers));
+            }
+
+            for (int i = 0; i < lookups; i++) {
+                assertEquals(i % 2 == 0, answers.get(i).get(5, TimeUnit.SECONDS), "lookup " + i);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(elapsedMillis < delayMillis * lookups / 4,
+                    "lookups should overlap, took " + elapsedMillis + " ms");
+            assertEquals(lookups, server.queries());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    /**
+     * Unanswered queries are retried and finally reported as unknown.
+     */
+    @Test
+    void unansweredQueryIsRetriedThenUnknown() throws Exception {
+        try (LocalDnsServer server = new LocalDnsServer(Set.of("example.org"), 1_000);
+             PipelinedUdpMxResolver resolver =
+                     new PipelinedUdpMxResolver(List.of(server.address()), Duration.ofMillis(50), 1)) {
+            assertNull(resolver.hasMxRecord("example.org"));
+            assertEquals(2, server.queries());
+        }
+    }
+
+    /**
+     * A server failure is inconclusive, so the next server is asked, as {@code UdpMxResolver} does.
+     */
+    @Test
+    void serverFailureFallsThroughToNextServer() throws Exception {
+        try (LocalDnsServer failing = new LocalDnsServer(Set.of(), 0, 2);
+             LocalDnsServer healthy = new LocalDnsServer(Set.of("example.org"), 0);
+             PipelinedUdpMxResolver resolver = new PipelinedUdpMxResolver(
+                     List.of(failing.address(), healthy.address()), Duration.ofMillis(200), 0)) {
+            assertEquals(Boolean.TRUE, resolver.hasMxRecord("example.org"));
+            assertEquals(1, failing.queries());
+            assertEquals(1, healthy.queries());
+        }
+    }
+
+    /**
+     * Closing the resolver releases lookups that are still waiting.
+     */
+    @Test
+    void closeReleasesWaitingLookups() throws Exception {
+        try (LocalDnsServer server = new LocalDnsServer(Set.of("example.org"), 5_000)) {
+            PipelinedUdpMxResolver resolver =
+                    new PipelinedUdpMxResolver(List.of(server.address()), Duration.ofSeconds(5), 0);
+            CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> resolver.hasMxRecord("example.org"));
+            while (resolver.inFlight() == 0) {
+                Thread.sleep(5);
+            }
+
+            resolver.close();
+
+            assertNull(waiting.get(1, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.siemens.internship;
+
+import com.siemens.internship.config.AsyncConfig;
+import com.siemens.internship.config.BackpressureRejectionHandler;
+import com.siemens.internship.config.ProcessingExecutorMetrics;
+import com.siemens.internship.config.ProcessingProperties;
+import com.siemens.internship.config.ProcessingProperties.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bounded item processing executor, its backpressure policies and its meters.
+ */
+class ProcessingExecutorMetricsTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Ensures SHED rejects once the single worker and the queue are occupied,
+     * and that the rejection is visible as a meter.
+     */
+    @Test
+    void shedPolicyRejectsWhenQueueIsFullAndCountsIt() throws Exception {
+        // given: one worker, one queue slot, SHED policy
+        executor = executor(OverflowPolicy.SHED, Duration.ZERO);
+        SimpleMeterRegistry registry = bind(executor);
+        CountDownLatch started = new CountDownLatch(1);
+
+        // when: the worker is busy and the queue holds one task
+        executor.execute(() -> { started.countDown(); await(); });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        executor.execute(this::await);
+
+        // then: a third task is shed and counted
+        assertThrows(TaskRejectedException.class, () -> executor.execute(this::await));
+        assertEquals(1.0, registry.get("items.processing.executor.rejected").functionCounter().count());
+        assertEquals(1.0, registry.get("items.processing.executor.active").gauge().value());
+        assertEquals(1.0, registry.get("items.processing.executor.queued").gauge().value());
+        assertEquals(0.0, registry.get("items.processing.executor.queue.remaining").gauge().value());
+    }
+
+    /**
+     * Ensures BLOCK holds the submitter until a slot frees up instead of rejecting.
+     */
+    @Test
+    void blockPolicyWaitsForQueueSpace() throws Exception {
+        // given: one worker, one queue slot, BLOCK policy
+        executor = executor(OverflowPolicy.BLOCK, Duration.ofSeconds(5));
+        SimpleMeterRegistry registry = bind(executor);
+        CountDownLatch done = new CountDownLatch(3);
+
+        executor.execute(() -> { await(); done.countDown(); });
+        executor.execute(() -> { await(); done.countDown(); });
+
+        // when: the workers are released shortly after a third submission starts blocking
+        new Thread(() -> {
+            sleep(100);
+            release.countDown();
+        }).start();
+        executor.execute(done::countDown);
+
+        // then: every task ran and nothing was rejected
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(0.0, registry.get("items.processing.executor.rejected").functionCounter().count());
+    }
+
+    /**
+     * Ensures BLOCK gives up with a rejection once the timeout elapses.
+     */
+    @Test
+    void blockPolicyRejectsAfterTimeout() throws Exception {
+        executor = executor(OverflowPolicy.BLOCK, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> { started.countDown(); await(); });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        executor.execute(this::await);
+
+        assertThrows(TaskRejectedException.class, () -> executor.execute(this::await));
+    }
+
+    private ThreadPoolTaskExecutor executor(OverflowPolicy policy, Duration timeout) {
+        ProcessingProperties props = new ProcessingProperties();
+        props.setPoolSize(1);
+        props.setQueueCapacity(1);
+        props.setOverflowPolicy(policy);
+        props.setBlockTimeout(timeout);
+        ThreadPoolTaskExecutor pool = new AsyncConfig().itemProcessingExecutor(props);
+        pool.initialize();
+        return pool;
+    }
+
+    private SimpleMeterRegistry bind(ThreadPoolTaskExecutor pool) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new ProcessingExecutorMetrics(pool,
+                (BackpressureRejectionHandler) pool.getThreadPoolExecutor().getRejectedExecutionHandler())
+                .bindTo(registry);
+        return registry;
+    }
+
+    private void await() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
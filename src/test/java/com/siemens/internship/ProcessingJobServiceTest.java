@@ -0,0 +1,214 @@
+package com.siemens.internship;
+
+import com.siemens.internship.config.ProcessingProperties;
+import com.siemens.internship.model.ChunkResult;
+import com.siemens.internship.model.ChunkedProcessingReport;
+import com.siemens.internship.model.ProcessingCheckpoint;
+import com.siemens.internship.model.ProcessingJobStatus;
+import com.siemens.internship.model.ProcessingJobStatus.State;
+import com.siemens.internship.model.ProcessingSummary;
+import com.siemens.internship.service.ChunkProgressListener;
+import com.siemens.internship.service.ItemProcessingListener;
+import com.siemens.internship.service.ItemService;
+import com.siemens.internship.service.ProcessingCheckpointService;
+import com.siemens.internship.service.ProcessingJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ProcessingJobService}.
+ *
+ * <p>Uses a synchronous executor so the job driver runs inline, and a
+ * manually completed future to observe the job while it is running.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class ProcessingJobServiceTest {
+
+    @Mock
+    private ItemService itemService;                 // Mocked chunked processing path
+
+    @Mock
+    private ProcessingCheckpointService checkpoints; // Mocked checkpoint persistence
+
+    private ProcessingJobService jobs;               // Service under test
+
+    private final CompletableFuture<ChunkedProcessingReport> run = new CompletableFuture<>();
+    private final AtomicReference<ChunkProgressListener> listener = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        jobs = new ProcessingJobService(itemService, checkpoints,
+                new SyncTaskExecutor(), new ProcessingProperties());
+        lenient().when(itemService.countEligibleAfter(anyLong())).thenReturn(10L);
+        lenient().when(itemService.processItemsInChunksAsync(any(), anyLong(), any(ChunkProgressListener.class)))
+                .thenAnswer(inv -> {
+                    listener.set(inv.getArgument(2));
+                    return run;
+                });
+    }
+
+    /**
+     * A submitted job reports progress from completed chunks and completes with the run.
+     */
+    @Test
+    void submittedJobTracksProgressUntilCompletion() {
+        ProcessingJobStatus submitted = jobs.submit(null, null);
+        assertEquals(State.RUNNING, submitted.state());
+        assertEquals(10, submitted.total());
+
+        // one chunk commits, one rolls back
+        listener.get().onChunkCompleted(ChunkResult.succeeded(0, 1L, 6L, 6, 6));
+        listener.get().onChunkCompleted(ChunkResult.failed(1, 7L, 8L, 2, new RuntimeException("x")));
+
+        ProcessingJobStatus running = jobs.status(submitted.jobId()).orElseThrow();
+        assertEquals(6, running.processed());
+        assertEquals(2, running.failed());
+        assertEquals(2, running.remaining());
+        assertNull(running.finishedAt());
+
+        run.complete(ChunkedProcessingReport.of(6, List.of()));
+
+        ProcessingJobStatus done = jobs.status(submitted.jobId()).orElseThrow();
+        assertEquals(State.COMPLETED, done.state());
+        assertEquals(0, done.remaining());
+        assertNull(done.etaSeconds());
+        assertNotNull(done.finishedAt());
+        // the failed chunk keeps the checkpoint resumable
+        verify(checkpoints).finish(submitted.jobId(), State.FAILED);
+    }
+
+    /**
+     * Cancelling a running job is visible to the scan and ends in CANCELLED;
+     * cancelling again is rejected.
+     */
+    @Test
+    void cancelStopsScanAndMarksJobCancelled() {
+        ProcessingJobStatus submitted = jobs.submit(null, null);
+
+        assertFalse(listener.get().isCancelled());
+        assertTrue(jobs.cancel(submitted.jobId()).isPresent());
+        assertTrue(listener.get().isCancelled(), "scan should observe the cancellation");
+
+        run.complete(ChunkedProcessingReport.of(6, List.of()));
+
+        assertEquals(State.CANCELLED, jobs.status(submitted.jobId()).orElseThrow().state());
+        assertThrows(IllegalStateException.class, () -> jobs.cancel(submitted.jobId()));
+        verify(checkpoints).finish(submitted.jobId(), State.CANCELLED);
+    }
+
+    /**
+     * A run that fails is reported as FAILED.
+     */
+    @Test
+    void failedRunMarksJobFailed() {
+        ProcessingJobStatus submitted = jobs.submit(null, null);
+
+        run.completeExceptionally(new RuntimeException("db down"));
+
+        assertEquals(State.FAILED, jobs.status(submitted.jobId()).orElseThrow().state());
+    }
+
+    /**
+     * The watermark only advances over consecutive committed chunks,
+     * even when chunks complete out of order, and stops at a failed chunk.
+     */
+    @Test
+    void checkpointAdvancesOverContiguousCommittedChunks() {
+        ProcessingJobStatus submitted = jobs.submit(3, "job-1");
+        ChunkProgressListener job = listener.get();
+
+        job.onChunkCompleted(ChunkResult.succeeded(1, 4L, 6L, 3, 3)); // out of order: no checkpoint yet
+        verify(checkpoints, never()).advance(anyString(), anyLong());
+
+        job.onChunkCompleted(ChunkResult.succeeded(0, 1L, 3L, 3, 3)); // closes the gap
+        job.onChunkCompleted(ChunkResult.failed(2, 7L, 9L, 3, new RuntimeException("x")));
+        job.onChunkCompleted(ChunkResult.succeeded(3, 10L, 12L, 3, 3)); // after the failure
+
+        InOrder order = inOrder(checkpoints);
+        order.verify(checkpoints).start("job-1", 3);
+        order.verify(checkpoints).advance("job-1", 6L);
+        verify(checkpoints, never()).advance("job-1", 12L);
+        assertEquals(6L, jobs.status(submitted.jobId()).orElseThrow().lastCommittedId());
+    }
+
+    /**
+     * Re-submitting an unfinished job resumes after its persisted watermark
+     * with the chunk size it was started with.
+     */
+    @Test
+    void resubmittedJobResumesFromCheckpoint() {
+        when(checkpoints.find("job-1")).thenReturn(Optional.of(
+                new ProcessingCheckpoint("job-1", 500L, 50, State.RUNNING, Instant.now())));
+
+        ProcessingJobStatus resumed = jobs.submit(null, "job-1");
+
+        assertEquals("job-1", resumed.jobId());
+        assertEquals(500L, resumed.lastCommittedId());
+        verify(itemService).countEligibleAfter(500L);
+        verify(itemService).processItemsInChunksAsync(eq(50), eq(500L), any(ChunkProgressListener.class));
+    }
+
+    /**
+     * Completed and currently running jobs cannot be submitted again.
+     */
+    @Test
+    void completedOrRunningJobIsRejected() {
+        when(checkpoints.find("done")).thenReturn(Optional.of(
+                new ProcessingCheckpoint("done", 900L, 50, State.COMPLETED, Instant.now())));
+        assertThrows(IllegalStateException.class, () -> jobs.submit(null, "done"));
+
+        jobs.submit(null, "job-1");
+        assertThrows(IllegalStateException.class, () -> jobs.submit(null, "job-1"));
+    }
+
+    /**
+     * Checkpoints left RUNNING by a previous instance are resumed at startup.
+     */
+    @Test
+    void interruptedJobsResumeOnStartup() {
+        when(checkpoints.findInterrupted()).thenReturn(List.of(
+                new ProcessingCheckpoint("job-9", 42L, 10, State.RUNNING, Instant.now())));
+
+        jobs.resumeInterrupted();
+
+        assertEquals(42L, jobs.status("job-9").orElseThrow().lastCommittedId());
+        verify(itemService).processItemsInChunksAsync(eq(10), eq(42L), any(ChunkProgressListener.class));
+    }
+
+    /**
+     * Background processing hands the listener to the summary run and relays its result.
+     */
+    @Test
+    void processInBackgroundRelaysSummary() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(3, 0, 1, List.of());
+        ItemProcessingListener sink = new ItemProcessingListener() { };
+        when(itemService.processItemsSummaryAsync(sink))
+                .thenReturn(CompletableFuture.completedFuture(summary));
+
+        assertSame(summary, jobs.processInBackground(sink).get());
+    }
+
+    /**
+     * Unknown job ids yield empty results.
+     */
+    @Test
+    void unknownJobIsEmpty() {
+        assertTrue(jobs.status("nope").isEmpty());
+        assertTrue(jobs.cancel("nope").isEmpty());
+    }
+}
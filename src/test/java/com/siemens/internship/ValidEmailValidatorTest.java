@@ -1,12 +1,24 @@
 package com.siemens.internship;
 
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.config.EmailValidationProperties.Mode;
+import com.siemens.internship.config.EmailValidationProperties.OpenPolicy;
+import com.siemens.internship.config.EmailValidationProperties.UnresolvedPolicy;
+import com.siemens.internship.service.AsyncMxLookup;
+import com.siemens.internship.service.EmailVerification;
+import com.siemens.internship.service.MxCircuitOpenException;
+import com.siemens.internship.service.MxRecordCache;
 import com.siemens.internship.service.ValidEmailValidator;
+import com.siemens.internship.service.dns.MxResolver;
 import jakarta.validation.ConstraintValidatorContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.MockedConstruction;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import javax.naming.NamingException;
 import javax.naming.directory.Attributes;
@@ -149,4 +161,120 @@ class ValidEmailValidatorTest {
             fail("Unexpected NamingException: " + e.getMessage());
         }
     }
+
+    /**
+     * A second address on the same domain is answered from the MX cache.
+     */
+    @Test
+    void repeatedDomainIsLookedUpOnce() {
+        try (MockedConstruction<InitialDirContext> mc =
+                     mockConstruction(InitialDirContext.class, (mockCtx, context) -> {
+                         Attributes attrs = new BasicAttributes();
+                         attrs.put("MX", "mx.example.org");
+                         when(mockCtx.getAttributes(anyString(), any(String[].class)))
+                                 .thenReturn(attrs);
+                     })) {
+            assertTrue(validator.isValid("first@example.org", ctx));
+            assertTrue(validator.isValid("second@example.org", ctx));
+
+            // Only one DNS context was created for both validations
+            assertEquals(1, mc.constructed().size());
+        }
+    }
+
+    /**
+     * Transient DNS failures are not cached, so the next validation retries the lookup.
+     */
+    @Test
+    void transientFailureIsRetried() {
+        try (MockedConstruction<InitialDirContext> mc =
+                     mockConstruction(InitialDirContext.class, (mockCtx, context) ->
+                             when(mockCtx.getAttributes(anyString(), any(String[].class)))
+                                     .thenThrow(new NamingException("timeout")))) {
+            assertFalse(validator.isValid("user@example.org", ctx));
+            assertFalse(validator.isValid("user@example.org", ctx));
+
+            assertEquals(2, mc.constructed().size());
+        }
+    }
+
+    /**
+     * Unresolved lookups follow the configured policy; ACCEPT_AND_FLAG marks the current request.
+     */
+    @Test
+    void unresolvedLookupFollowsPolicy() {
+        MxResolver unresolved = domain -> null;
+        EmailValidationProperties.Cache settings = new EmailValidationProperties.Cache();
+
+        assertFalse(new ValidEmailValidator(new MxRecordCache(settings), unresolved, UnresolvedPolicy.REJECT)
+                .isValid("user@example.org", ctx));
+        assertTrue(new ValidEmailValidator(new MxRecordCache(settings), unresolved, UnresolvedPolicy.ACCEPT)
+                .isValid("user@example.org", ctx));
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            assertFalse(EmailVerification.isUnverified());
+            assertTrue(new ValidEmailValidator(new MxRecordCache(settings), unresolved,
+                    UnresolvedPolicy.ACCEPT_AND_FLAG).isValid("user@example.org", ctx));
+            assertTrue(EmailVerification.isUnverified());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    /**
+     * A definitive answer is never overridden by the unresolved policy.
+     */
+    @Test
+    void resolvedLookupIgnoresPolicy() {
+        ValidEmailValidator accepting = new ValidEmailValidator(
+                new MxRecordCache(new EmailValidationProperties.Cache()), domain -> false, UnresolvedPolicy.ACCEPT);
+
+        assertFalse(accepting.isValid("user@example.org", ctx));
+    }
+
+    /**
+     * A lookup refused by the open circuit breaker follows the open policy, not the unresolved one.
+     */
+    @Test
+    void openCircuitFollowsOpenPolicy() {
+        MxResolver refused = domain -> {
+            throw new MxCircuitOpenException(domain);
+        };
+        EmailValidationProperties.Cache settings = new EmailValidationProperties.Cache();
+
+        assertFalse(new ValidEmailValidator(new MxRecordCache(settings), refused, UnresolvedPolicy.ACCEPT,
+                OpenPolicy.FAIL_FAST).isValid("user@example.org", ctx));
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            assertTrue(new ValidEmailValidator(new MxRecordCache(settings), refused, UnresolvedPolicy.REJECT,
+                    OpenPolicy.SKIP_AND_FLAG).isValid("user@example.org", ctx));
+            assertTrue(EmailVerification.isUnverified());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    /**
+     * The deferred validator checks the format only, never queries DNS, and marks the request.
+     */
+    @Test
+    void deferredValidatorChecksFormatOnly() {
+        EmailValidationProperties props = new EmailValidationProperties();
+        props.setMode(Mode.DEFERRED);
+        AsyncMxLookup lookup = mock(AsyncMxLookup.class);
+        ValidEmailValidator deferred = new ValidEmailValidator(mock(MxRecordCache.class), lookup, props);
+
+        assertFalse(deferred.isValid("not-an-email", ctx));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try (MockedConstruction<InitialDirContext> mc = mockConstruction(InitialDirContext.class)) {
+            assertTrue(deferred.isValid("user@nomail.example", ctx));
+            assertTrue(EmailVerification.isUnverified());
+            assertEquals(0, mc.constructed().size());
+            verifyNoInteractions(lookup);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package com.siemens.internship;
+
+import com.siemens.internship.validation.processor.ValidatorProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compiles a constrained class with {@link ValidatorProcessor} and checks that the
+ * generated validator itself compiles.
+ */
+class ValidatorProcessorTest {
+
+    @TempDir
+    Path dir;   // Sources, generated sources and classes of the test compilation
+
+    /**
+     * Jakarta constraints are TYPE_USE annotations, so the field types carry them; the
+     * generated local variables must be declared with plain types, including generic and
+     * array types, or the generated source does not compile.
+     */
+    @Test
+    void generatedValidatorCompilesForTypeUseConstraints() throws IOException {
+        // given: a class whose constrained fields have simple, generic and array types
+        Path source = dir.resolve("src/demo/Order.java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, """
+                package demo;
+
+                import com.siemens.internship.validation.GenerateValidator;
+                import jakarta.validation.constraints.NotBlank;
+                import jakarta.validation.constraints.NotNull;
+                import jakarta.validation.constraints.Size;
+                import java.util.List;
+
+                @GenerateValidator
+                public class Order {
+                    @NotBlank @Size(max = 10) private String name;
+                    @NotNull private List<? extends CharSequence> lines;
+                    @NotNull private int[] quantities;
+
+                    public String getName() { return name; }
+                    public List<? extends CharSequence> getLines() { return lines; }
+                    public int[] getQuantities() { return quantities; }
+                }
+                """, StandardCharsets.UTF_8);
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        Path generated = Files.createDirectories(dir.resolve("generated"));
+
+        // when: it is compiled with the processor
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean compiled;
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            compiled = compiler.getTask(null, files, diagnostics,
+                    List.of("-classpath", System.getProperty("java.class.path"),
+                            "-processor", ValidatorProcessor.class.getName(),
+                            "-d", classes.toString(), "-s", generated.toString()),
+                    null, files.getJavaFileObjects(source.toFile())).call();
+        }
+
+        // then: the generated validator compiled without errors
+        String errors = diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(Object::toString)
+                .collect(Collectors.joining("\n"));
+        assertTrue(compiled, errors);
+        assertTrue(Files.exists(classes.resolve("demo/OrderValidator.class")));
+        String validator = Files.readString(generated.resolve("demo/OrderValidator.java"));
+        assertTrue(validator.contains("java.util.List<? extends java.lang.CharSequence> lines = bean.getLines();"),
+                validator);
+        assertTrue(validator.contains("int[] quantities = bean.getQuantities();"), validator);
+    }
+}
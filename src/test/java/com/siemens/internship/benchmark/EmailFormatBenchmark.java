@@ -0,0 +1,91 @@
+package com.siemens.internship.benchmark;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.config.EmailValidationProperties.UnresolvedPolicy;
+import com.siemens.internship.service.EmailFormat;
+import com.siemens.internship.service.MxRecordCache;
+import com.siemens.internship.service.ValidEmailValidator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+/**
+ * JMH comparison of the {@link EmailFormat} scanner with the regex it replaced.
+ *
+ * <p>Each invocation checks a mix of valid and invalid addresses. The regex variant
+ * does what the validator used to do (match, then {@code substring} the domain); the
+ * scanner variant only computes the domain offset. {@code validatorWarmCache} runs the
+ * whole {@link ValidEmailValidator#isValid} path, format check plus cache hit, so the
+ * allocation it reports is what a validated request actually pays. The GC profiler
+ * reports {@code gc.alloc.rate.norm}, the bytes allocated per operation.</p>
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailFormatBenchmark {
+
+    private final String[] addresses = {
+            "john.doe@example.org",
+            "a.very.long.local+tag_with%stuff@mail.subdomain.example-company.com",
+            "not-an-email",
+            "user@example.c",
+            "user@@example.org",
+            "x@y.io"
+    };
+
+    /** Every well-formed address's domain is cached, so no lookup runs during measurement. */
+    private final ValidEmailValidator validator = new ValidEmailValidator(
+            new MxRecordCache(new EmailValidationProperties.Cache()), domain -> true, UnresolvedPolicy.REJECT);
+
+    @Benchmark
+    public void regexMatchAndSubstring(Blackhole bh) {
+        for (String address : addresses) {
+            Matcher m = EmailFormat.REFERENCE.matcher(address);
+            bh.consume(m.matches() ? address.substring(address.indexOf('@') + 1) : null);
+        }
+    }
+
+    @Benchmark
+    public void scannerOffset(Blackhole bh) {
+        for (String address : addresses) {
+            bh.consume(EmailFormat.domainOffset(address));
+        }
+    }
+
+    @Benchmark
+    public void validatorWarmCache(Blackhole bh) {
+        for (String address : addresses) {
+            bh.consume(validator.isValid(address, null));
+        }
+    }
+
+    @Test
+    void runBenchmark() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(EmailFormatBenchmark.class.getName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
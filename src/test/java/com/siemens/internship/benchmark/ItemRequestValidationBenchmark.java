@@ -0,0 +1,121 @@
+package com.siemens.internship.benchmark;
+
+import com.siemens.internship.config.EmailValidationProperties;
+import com.siemens.internship.config.EmailValidationProperties.UnresolvedPolicy;
+import com.siemens.internship.model.ItemRequest;
+import com.siemens.internship.model.ItemRequestValidator;
+import com.siemens.internship.service.MxRecordCache;
+import com.siemens.internship.service.ValidEmailValidator;
+import com.siemens.internship.service.dns.InMemoryZoneMxResolver;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the generated {@link ItemRequestValidator} with Hibernate Validator
+ * behind Spring's {@link LocalValidatorFactoryBean}, as used on the controller path.
+ *
+ * <p>Both validate the same valid and invalid requests into a fresh binding result. The
+ * email check is answered from a warm MX cache, so the numbers compare constraint
+ * evaluation, not DNS. The GC profiler reports {@code gc.alloc.rate.norm}.</p>
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemRequestValidationBenchmark {
+
+    private final ItemRequest[] requests = {
+            new ItemRequest("My Item", "A perfectly fine description", "NEW", "user@example.com"),
+            new ItemRequest("Other", null, "PROCESSED", "someone@example.com"),
+            new ItemRequest("", "x".repeat(300), "UNKNOWN", "not-an-email")
+    };
+
+    private Validator generated;
+    private Validator hibernate;
+
+    @Setup
+    public void setUp() {
+        ValidEmailValidator email = new ValidEmailValidator(
+                new MxRecordCache(new EmailValidationProperties.Cache()),
+                new InMemoryZoneMxResolver(List.of("example.com"), Duration.ZERO), UnresolvedPolicy.REJECT);
+        generated = new ItemRequestValidator(email);
+
+        LocalValidatorFactoryBean factory = new LocalValidatorFactoryBean();
+        factory.setConstraintValidatorFactory(new ConstraintValidatorFactory() {
+            @Override
+            public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+                if (ValidEmailValidator.class.equals(key)) {
+                    return key.cast(email);
+                }
+                try {
+                    return key.getDeclaredConstructor().newInstance();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Failed to create validator: " + key, e);
+                }
+            }
+
+            @Override
+            public void releaseInstance(ConstraintValidator<?, ?> instance) {
+                // No cleanup needed
+            }
+        });
+        factory.afterPropertiesSet();
+        hibernate = factory;
+    }
+
+    @Benchmark
+    public void hibernateValidator(Blackhole bh) {
+        validateAll(hibernate, bh);
+    }
+
+    @Benchmark
+    public void generatedValidator(Blackhole bh) {
+        validateAll(generated, bh);
+    }
+
+    private void validateAll(Validator validator, Blackhole bh) {
+        for (ItemRequest req : requests) {
+            Errors errors = new BeanPropertyBindingResult(req, "itemRequest");
+            validator.validate(req, errors);
+            bh.consume(errors.getErrorCount());
+        }
+    }
+
+    @Test
+    void runBenchmark() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ItemRequestValidationBenchmark.class.getName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,118 @@
+package com.siemens.internship.benchmark;
+
+import com.siemens.internship.InternshipApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares how many concurrent blocking requests the application can serve
+ * with platform request threads versus {@code spring.threads.virtual.enabled=true}.
+ *
+ * <p>The application is started twice on a random port with an extra endpoint that
+ * blocks for {@link #BLOCK_MILLIS}, standing in for a JDBC call or the DNS MX lookup
+ * of {@code @ValidEmail}. {@link #REQUESTS} requests are fired at once and the
+ * wall-clock time and throughput of each mode are printed.</p>
+ *
+ * <p>Run with {@code mvn test -Pbenchmark} on Java 21.</p>
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadCapacityBenchmark {
+
+    private static final int REQUESTS = 2_000;
+    private static final long BLOCK_MILLIS = 100;
+    private static final int TOMCAT_MAX_THREADS = 200; // Spring Boot default
+
+    @Test
+    void virtualThreadsServeMoreConcurrentBlockingRequests() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%-10s %10s %14s%n", "mode", "wall ms", "requests/s");
+        System.out.printf("%-10s %10d %14.0f%n", "platform", platform.wallMillis(), platform.throughput());
+        System.out.printf("%-10s %10d %14.0f%n", "virtual", virtual.wallMillis(), virtual.throughput());
+
+        assertEquals(REQUESTS, platform.succeeded());
+        assertEquals(REQUESTS, virtual.succeeded());
+        assertTrue(virtual.throughput() > platform.throughput(),
+                "virtual threads should not be capped by the Tomcat worker pool");
+    }
+
+    /**
+     * Start the application in the given mode and fire all requests concurrently.
+     */
+    private Result run(boolean virtualThreads) throws Exception {
+        RouterFunction<ServerResponse> blocking = RouterFunctions.route()
+                .GET("/bench/block", request -> {
+                    Thread.sleep(BLOCK_MILLIS);
+                    return ServerResponse.ok().body("ok");
+                })
+                .build();
+
+        ExecutorService clientThreads = Executors.newCachedThreadPool();
+        try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(InternshipApplication.class)
+                .initializers(c -> c.getBeanFactory().registerSingleton("benchBlockingRoute", blocking))
+                // Command-line arguments win over system properties set by other tests
+                .run("--spring.main.web-application-type=servlet",
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN")) {
+
+            int port = ((ServletWebServerApplicationContext) ctx).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/bench/block");
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(clientThreads)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            // Warm up the connection handling and JIT once per mode
+            client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding());
+
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<Void>>> calls = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                calls.add(client.sendAsync(HttpRequest.newBuilder(uri).build(),
+                        HttpResponse.BodyHandlers.discarding()));
+            }
+            int succeeded = 0;
+            for (CompletableFuture<HttpResponse<Void>> call : calls) {
+                if (call.join().statusCode() == 200) {
+                    succeeded++;
+                }
+            }
+            long wallMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            return new Result(succeeded, wallMillis);
+        } finally {
+            clientThreads.shutdownNow();
+        }
+    }
+
+    private record Result(int succeeded, long wallMillis) {
+        double throughput() {
+            return succeeded * 1000.0 / Math.max(wallMillis, 1);
+        }
+    }
+}